@@ -0,0 +1,138 @@
+package com.github.aleffalves.credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.config.LoadSimulatorHttpMessageConverter;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.GlobalExceptionHandler;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import com.github.aleffalves.credit_simulator.metrics.SimulationMetrics;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma requisição rejeitada comparado ao de uma aceita. {@code rejectLegacy} reproduz o caminho anterior
+ * (exceção com stack trace, {@code HashMap}, {@code LocalDateTime.now()} e serialização pelo Jackson);
+ * {@code rejectStackless} usa {@link SimulationValidationException} e o template do {@link GlobalExceptionHandler}.
+ *
+ * <p>As chamadas partem de uma pilha com {@code depth} frames, a profundidade do Tomcat e dos filtros até o
+ * {@code DispatcherServlet}, que é o que encarece o preenchimento do stack trace. Como no Spring MVC, a exceção é
+ * capturada nesse ponto, {@link #DISPATCH_FRAMES} frames abaixo do service, e só esses frames são desempilhados.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    // DispatcherServlet.doDispatch até o controller (adapter, invocação por reflexão) e o próprio controller.
+    static final int DISPATCH_FRAMES = 10;
+
+    @Param({"20", "120"})
+    public int depth;
+
+    private ObjectMapper objectMapper;
+    private LoadSimulatorHttpMessageConverter converter;
+    private LoadSimulatorService service;
+    private GlobalExceptionHandler handler;
+    private WebRequest webRequest;
+    private LoadSimulatorRequest valid;
+    private LoadSimulatorRequest futureDateOfBirth;
+    private final ByteArrayBuilder output = new ByteArrayBuilder();
+
+    @Setup
+    public void setup() {
+        // Mesma configuração do ObjectMapper criado pelo Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        converter = new LoadSimulatorHttpMessageConverter(
+                Map.of(MediaType.APPLICATION_JSON, objectMapper.getFactory()), RateTable.defaults());
+        service = StandaloneServices.loadSimulatorService();
+        handler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(handler, "metrics", SimulationMetrics.noop());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/load-simulator");
+        request.addHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+        webRequest = new ServletWebRequest(request);
+
+        valid = new LoadSimulatorRequest(new BigDecimal("15000.00"), LocalDate.now().minusYears(35), 24);
+        futureDateOfBirth = new LoadSimulatorRequest(new BigDecimal("15000.00"), LocalDate.now().plusDays(1), 24);
+    }
+
+    @Benchmark
+    public byte[] accept() throws Exception {
+        return atDepth(depth, () -> {
+            LoadSimulatorResponse response = atDepth(DISPATCH_FRAMES, () -> service.simulate(valid));
+            output.reset();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                converter.writeResponse(generator, response);
+            }
+            return output.toByteArray();
+        });
+    }
+
+    @Benchmark
+    public byte[] rejectLegacy() throws Exception {
+        return atDepth(depth, () -> {
+            try {
+                return atDepth(DISPATCH_FRAMES, () -> {
+                    throw new IllegalArgumentException(SimulationValidationException.FUTURE_DATE_OF_BIRTH);
+                });
+            } catch (IllegalArgumentException ex) {
+                Map<String, Object> body = new HashMap<>();
+                body.put("timestamp", LocalDateTime.now());
+                body.put("message", ex.getMessage());
+                body.put("status", HttpStatus.BAD_REQUEST.value());
+                return objectMapper.writeValueAsBytes(body);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object rejectStackless() throws Exception {
+        return atDepth(depth, () -> {
+            try {
+                return atDepth(DISPATCH_FRAMES, () -> service.simulate(futureDateOfBirth));
+            } catch (SimulationValidationException ex) {
+                return handler.handleValidationException(ex, webRequest).getBody();
+            }
+        });
+    }
+
+    private static <T> T atDepth(int depth, Callable<T> call) throws Exception {
+        return depth == 0 ? call.call() : atDepth(depth - 1, call);
+    }
+}
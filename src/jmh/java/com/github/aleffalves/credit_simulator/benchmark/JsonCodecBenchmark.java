@@ -0,0 +1,120 @@
+package com.github.aleffalves.credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.config.LoadSimulatorHttpMessageConverter;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private LoadSimulatorHttpMessageConverter streamingConverter;
+    private Validator validator;
+    private final ByteArrayBuilder output = new ByteArrayBuilder();
+    private SimulationDataset dataset;
+    private LoadSimulatorResponse[] responses;
+    private byte[][] requestPayloads;
+    private byte[][] responsePayloads;
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        // Mesma configuração do ObjectMapper criado pelo Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        streamingConverter = new LoadSimulatorHttpMessageConverter(
+                Map.of(MediaType.APPLICATION_JSON, objectMapper.getFactory()), RateTable.defaults());
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        dataset = new SimulationDataset(42);
+
+        LoadSimulatorService service = StandaloneServices.loadSimulatorService();
+        responses = new LoadSimulatorResponse[SimulationDataset.SIZE];
+        requestPayloads = new byte[SimulationDataset.SIZE][];
+        responsePayloads = new byte[SimulationDataset.SIZE][];
+        for (int i = 0; i < SimulationDataset.SIZE; i++) {
+            responses[i] = service.simulate(dataset.requests[i]);
+            requestPayloads[i] = objectMapper.writeValueAsBytes(dataset.requests[i]);
+            responsePayloads[i] = objectMapper.writeValueAsBytes(responses[i]);
+        }
+    }
+
+    private int next() {
+        return cursor++ & SimulationDataset.MASK;
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(dataset.requests[next()]);
+    }
+
+    @Benchmark
+    public LoadSimulatorRequest readRequest() throws IOException {
+        return objectMapper.readValue(requestPayloads[next()], LoadSimulatorRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(responses[next()]);
+    }
+
+    @Benchmark
+    public LoadSimulatorResponse readResponse() throws IOException {
+        return objectMapper.readValue(responsePayloads[next()], LoadSimulatorResponse.class);
+    }
+
+    // Leitura por tokens do conversor usado pelo controller, já com a validação do DTO; compare com readRequestValidated.
+    @Benchmark
+    public LoadSimulatorRequest readRequestStreaming() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(requestPayloads[next()])) {
+            return streamingConverter.readRequest(parser);
+        }
+    }
+
+    @Benchmark
+    public LoadSimulatorRequest readRequestValidated() throws IOException {
+        LoadSimulatorRequest request = objectMapper.readValue(requestPayloads[next()], LoadSimulatorRequest.class);
+        if (!validator.validate(request).isEmpty()) throw new IllegalStateException();
+        return request;
+    }
+
+    @Benchmark
+    public byte[] writeResponseStreaming() throws IOException {
+        output.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            streamingConverter.writeResponse(generator, responses[next()]);
+        }
+        return output.toByteArray();
+    }
+}
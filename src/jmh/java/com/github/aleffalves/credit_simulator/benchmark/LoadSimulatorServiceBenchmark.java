@@ -0,0 +1,85 @@
+package com.github.aleffalves.credit_simulator.benchmark;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.SimulationEngineType;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadSimulatorServiceBenchmark {
+
+    private LoadSimulatorService service;
+    private LoadSimulatorService fixedPointService;
+    private SimulationDataset dataset;
+    private int cursor;
+    private double[] principals;
+    private double[] rates;
+
+    @Setup
+    public void setup() {
+        service = StandaloneServices.loadSimulatorService(SimulationEngineType.BIG_DECIMAL);
+        fixedPointService = StandaloneServices.loadSimulatorService(SimulationEngineType.FIXED_POINT);
+        dataset = new SimulationDataset(42);
+        principals = new double[SimulationDataset.SIZE];
+        rates = new double[SimulationDataset.SIZE];
+        for (int i = 0; i < SimulationDataset.SIZE; i++) {
+            principals[i] = dataset.loanAmounts[i].doubleValue();
+            rates[i] = dataset.monthlyRates[i].doubleValue();
+        }
+    }
+
+    private int next() {
+        return cursor++ & SimulationDataset.MASK;
+    }
+
+    @Benchmark
+    public int calculateAge() {
+        return service.calculateAge(dataset.datesOfBirth[next()]);
+    }
+
+    @Benchmark
+    public BigDecimal getAnnualInterestRateByAge() {
+        return service.getAnnualInterestRateByAge(dataset.ages[next()]);
+    }
+
+    // Faixa já resolvida, como em simulate(): o fator sai direto da tabela.
+    @Benchmark
+    public BigDecimal calculateInstallment() {
+        int i = next();
+        return service.calculateInstallment(dataset.loanAmounts[i], dataset.rateTiers[i], dataset.terms[i]);
+    }
+
+    // Uma operação = SimulationDataset.SIZE parcelas; compare com calculateInstallment multiplicado por SIZE.
+    @Benchmark
+    public long[] calculateInstallments() {
+        return service.calculateInstallments(principals, rates, dataset.terms);
+    }
+
+    @Benchmark
+    public LoadSimulatorResponse simulate() {
+        return service.simulate(dataset.requests[next()]);
+    }
+
+    @Benchmark
+    public LoadSimulatorResponse simulateFixedPoint() {
+        return fixedPointService.simulate(dataset.requests[next()]);
+    }
+}
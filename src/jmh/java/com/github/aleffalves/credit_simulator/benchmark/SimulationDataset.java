@@ -0,0 +1,69 @@
+package com.github.aleffalves.credit_simulator.benchmark;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Massa de dados determinística usada pelos benchmarks: valores com distribuição log-normal em torno de R$ 15 mil,
+ * prazos concentrados nos produtos mais vendidos e idades entre 18 e 85 anos.
+ */
+final class SimulationDataset {
+
+    static final int SIZE = 1 << 12;
+    static final int MASK = SIZE - 1;
+
+    private static final int[] TERMS = {12, 24, 36, 48, 60, 72, 84, 96, 120, 180, 240, 360, 420};
+    private static final int[] TERM_WEIGHTS = {14, 18, 16, 12, 12, 6, 5, 4, 4, 3, 3, 2, 1};
+
+    final LoadSimulatorRequest[] requests = new LoadSimulatorRequest[SIZE];
+    final BigDecimal[] loanAmounts = new BigDecimal[SIZE];
+    final LocalDate[] datesOfBirth = new LocalDate[SIZE];
+    final int[] ages = new int[SIZE];
+    final BigDecimal[] monthlyRates = new BigDecimal[SIZE];
+    final int[] rateTiers = new int[SIZE];
+    final int[] terms = new int[SIZE];
+
+    SimulationDataset(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDate today = LocalDate.now();
+        BigDecimal[] tierRates = {
+                new BigDecimal("0.0042"), new BigDecimal("0.0025"), new BigDecimal("0.0017"), new BigDecimal("0.0033")
+        };
+
+        for (int i = 0; i < SIZE; i++) {
+            double amount = Math.exp(Math.log(15_000) + 0.9 * gaussian(random));
+            loanAmounts[i] = BigDecimal.valueOf(Math.min(Math.max(amount, 500), 500_000)).setScale(2, RoundingMode.HALF_EVEN);
+            ages[i] = 18 + random.nextInt(68);
+            datesOfBirth[i] = today.minusYears(ages[i]).minusDays(random.nextInt(365));
+            terms[i] = term(random);
+            rateTiers[i] = ages[i] <= 25 ? 0 : ages[i] <= 40 ? 1 : ages[i] <= 60 ? 2 : 3;
+            monthlyRates[i] = tierRates[rateTiers[i]];
+            requests[i] = LoadSimulatorRequest.builder()
+                    .loanAmount(loanAmounts[i])
+                    .dateOfBirth(datesOfBirth[i])
+                    .paymentTermMonths(terms[i])
+                    .build();
+        }
+    }
+
+    private static int term(SplittableRandom random) {
+        int total = 0;
+        for (int weight : TERM_WEIGHTS) total += weight;
+        int pick = random.nextInt(total);
+        for (int i = 0; i < TERMS.length; i++) {
+            pick -= TERM_WEIGHTS[i];
+            if (pick < 0) return TERMS[i];
+        }
+        return TERMS[TERMS.length - 1];
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.aleffalves.credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON, CBOR e Smile na (de)serialização de requisições e respostas. O tamanho médio dos payloads de cada
+ * formato, em bytes por mensagem, é impresso uma vez no setup, medido sobre todo o {@link SimulationDataset}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private SimulationDataset dataset;
+    private LoadSimulatorResponse[] responses;
+    private byte[][] requestPayloads;
+    private byte[][] responsePayloads;
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        // Mesma configuração dos conversores HTTP (WireFormatConfig)
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        dataset = new SimulationDataset(42);
+
+        LoadSimulatorService service = StandaloneServices.loadSimulatorService();
+        responses = new LoadSimulatorResponse[SimulationDataset.SIZE];
+        requestPayloads = new byte[SimulationDataset.SIZE][];
+        responsePayloads = new byte[SimulationDataset.SIZE][];
+        for (int i = 0; i < SimulationDataset.SIZE; i++) {
+            responses[i] = service.simulate(dataset.requests[i]);
+            requestPayloads[i] = mapper.writeValueAsBytes(dataset.requests[i]);
+            responsePayloads[i] = mapper.writeValueAsBytes(responses[i]);
+        }
+        System.out.printf("%n%s: requisição %.1f bytes, resposta %.1f bytes por mensagem%n",
+                format, averageSize(requestPayloads), averageSize(responsePayloads));
+    }
+
+    private static double averageSize(byte[][] payloads) {
+        long total = 0;
+        for (byte[] payload : payloads) total += payload.length;
+        return (double) total / payloads.length;
+    }
+
+    private int next() {
+        return cursor++ & SimulationDataset.MASK;
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return mapper.writeValueAsBytes(dataset.requests[next()]);
+    }
+
+    @Benchmark
+    public LoadSimulatorRequest readRequest() throws IOException {
+        return mapper.readValue(requestPayloads[next()], LoadSimulatorRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return mapper.writeValueAsBytes(responses[next()]);
+    }
+
+    @Benchmark
+    public LoadSimulatorResponse readResponse() throws IOException {
+        return mapper.readValue(responsePayloads[next()], LoadSimulatorResponse.class);
+    }
+}
@@ -1,13 +1,21 @@
 package com.github.aleffalves.credit_simulator;
 
+import com.github.aleffalves.credit_simulator.offline.OfflineBulkRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class CreditSimulatorApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(CreditSimulatorApplication.class, args);
+		// Simulação offline (credit-simulator.offline.input): nenhuma porta é aberta, e o processo termina ao final.
+		// O contexto continua sendo web: com Spring AOT ele foi gerado como aplicação servlet e não pode mudar de tipo.
+		SpringApplication application = new SpringApplication(CreditSimulatorApplication.class);
+		application.addListeners(new OfflineBulkRunner.HttpPortDisabler());
+
+		ConfigurableApplicationContext context = application.run(args);
+		if (OfflineBulkRunner.isRequested(context.getEnvironment())) System.exit(SpringApplication.exit(context));
 	}
 
 }
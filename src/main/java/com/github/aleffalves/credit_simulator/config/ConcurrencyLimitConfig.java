@@ -0,0 +1,69 @@
+package com.github.aleffalves.credit_simulator.config;
+
+import com.github.aleffalves.credit_simulator.limit.ConcurrencyLimitFilter;
+import com.github.aleffalves.credit_simulator.limit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Limites de concorrência separados para a simulação individual e para os endpoints em lote, de modo que um pico de
+ * lotes não tire vagas das simulações individuais (e vice-versa).
+ */
+@Configuration
+@ConditionalOnProperty(name = "credit-simulator.limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Value("${credit-simulator.limit.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${credit-simulator.limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${credit-simulator.limit.window-size:50}")
+    private int windowSize;
+
+    @Value("${credit-simulator.limit.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Bean
+    public GradientConcurrencyLimit singleConcurrencyLimit(
+            @Value("${credit-simulator.limit.single.initial:100}") int initial,
+            @Value("${credit-simulator.limit.single.min:10}") int min,
+            @Value("${credit-simulator.limit.single.max:1000}") int max,
+            MeterRegistry registry) {
+        return new GradientConcurrencyLimit("single", initial, min, max, tolerance, smoothing, windowSize, registry);
+    }
+
+    @Bean
+    public GradientConcurrencyLimit bulkConcurrencyLimit(
+            @Value("${credit-simulator.limit.bulk.initial:8}") int initial,
+            @Value("${credit-simulator.limit.bulk.min:2}") int min,
+            @Value("${credit-simulator.limit.bulk.max:64}") int max,
+            MeterRegistry registry) {
+        return new GradientConcurrencyLimit("bulk", initial, min, max, tolerance, smoothing, windowSize, registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> singleConcurrencyLimitFilter(GradientConcurrencyLimit singleConcurrencyLimit) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(singleConcurrencyLimit, retryAfter));
+        registration.setName("singleConcurrencyLimitFilter");
+        registration.addUrlPatterns("/load-simulator", "/load-simulator/schedule", "/load-simulator/solve");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> bulkConcurrencyLimitFilter(GradientConcurrencyLimit bulkConcurrencyLimit) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(bulkConcurrencyLimit, retryAfter));
+        registration.setName("bulkConcurrencyLimitFilter");
+        registration.addUrlPatterns("/load-simulator/batch", "/load-simulator/grid", "/load-simulator/stress", "/load-simulator/solve/batch");
+        return registration;
+    }
+}
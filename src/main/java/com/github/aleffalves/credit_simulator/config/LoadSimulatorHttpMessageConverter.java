@@ -0,0 +1,212 @@
+package com.github.aleffalves.credit_simulator.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Leitura de {@link LoadSimulatorRequest} e escrita de {@link LoadSimulatorResponse} direto sobre os tokens do
+ * Jackson ({@link JsonParser}/{@link JsonGenerator}), sem databind nem reflexão. Funciona com qualquer
+ * {@link JsonFactory}, então atende JSON, CBOR e Smile com o mesmo código.
+ *
+ * <p>As regras {@code @NotNull}/{@code @Positive}/{@code @Past} do DTO são verificadas durante a leitura, com as
+ * mesmas mensagens; uma violação vira {@link SimulationValidationException}, que o {@code GlobalExceptionHandler} já
+ * responde com 400. Por isso os endpoints que recebem {@link LoadSimulatorRequest} não usam mais {@code @Valid}.
+ * O {@code message} do erro passa a ser só as mensagens das regras violadas (ordenadas, como no lote), e não mais o
+ * texto de {@code MethodArgumentNotValidException}; a mudança de texto é intencional e está documentada no README.
+ */
+public class LoadSimulatorHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final String LOAN_AMOUNT = "loanAmount";
+    private static final String DATE_OF_BIRTH = "dateOfBirth";
+    private static final String PAYMENT_TERM_MONTHS = "paymentTermMonths";
+
+    private final Map<MediaType, JsonFactory> factories;
+    private final JsonFactory defaultFactory;
+    private final RateTable rateTable;
+
+    /**
+     * @param factories fábrica de cada tipo de mídia suportado; o primeiro é o padrão
+     */
+    public LoadSimulatorHttpMessageConverter(Map<MediaType, JsonFactory> factories, RateTable rateTable) {
+        super(factories.keySet().toArray(MediaType[]::new));
+        this.factories = new LinkedHashMap<>(factories);
+        this.defaultFactory = factories.values().iterator().next();
+        this.rateTable = rateTable;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == LoadSimulatorRequest.class || clazz == LoadSimulatorResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == LoadSimulatorRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == LoadSimulatorResponse.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (JsonParser parser = factoryFor(inputMessage.getHeaders().getContentType()).createParser(StreamUtils.nonClosing(inputMessage.getBody()))) {
+            return readRequest(parser);
+        } catch (JsonProcessingException | DateTimeException | NumberFormatException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    /**
+     * Lê e valida uma requisição. Erros de formato são {@link JsonProcessingException}; violações das regras do DTO,
+     * {@link SimulationValidationException}.
+     */
+    public LoadSimulatorRequest readRequest(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Esperado um objeto JSON com os dados da simulação.");
+        }
+
+        BigDecimal loanAmount = null;
+        LocalDate dateOfBirth = null;
+        Integer paymentTermMonths = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case LOAN_AMOUNT -> loanAmount = readDecimal(parser, value);
+                case DATE_OF_BIRTH -> dateOfBirth = readDate(parser, value);
+                case PAYMENT_TERM_MONTHS -> paymentTermMonths = readInteger(parser, value);
+                // Mesmo comportamento do ObjectMapper do Spring Boot: propriedades desconhecidas são ignoradas.
+                default -> parser.skipChildren();
+            }
+        }
+
+        validate(loanAmount, dateOfBirth, paymentTermMonths);
+        return new LoadSimulatorRequest(loanAmount, dateOfBirth, paymentTermMonths);
+    }
+
+    private void validate(BigDecimal loanAmount, LocalDate dateOfBirth, Integer paymentTermMonths) {
+        String[] violations = new String[3];
+        int count = 0;
+        if (loanAmount == null) violations[count++] = LoadSimulatorRequest.LOAN_AMOUNT_NULL;
+        else if (loanAmount.signum() <= 0) violations[count++] = LoadSimulatorRequest.LOAN_AMOUNT_NOT_POSITIVE;
+
+        if (dateOfBirth == null) violations[count++] = LoadSimulatorRequest.DATE_OF_BIRTH_NULL;
+        else if (!dateOfBirth.isBefore(rateTable.current().today())) violations[count++] = LoadSimulatorRequest.DATE_OF_BIRTH_NOT_PAST;
+
+        if (paymentTermMonths == null) violations[count++] = LoadSimulatorRequest.PAYMENT_TERM_NULL;
+        else if (paymentTermMonths <= 0) violations[count++] = LoadSimulatorRequest.PAYMENT_TERM_NOT_POSITIVE;
+
+        if (count == 1) throw new SimulationValidationException(violations[0]);
+        if (count > 1) {
+            // Mesma ordem usada no lote (LoadSimulatorBatchService).
+            Arrays.sort(violations, 0, count);
+            throw new SimulationValidationException(String.join(" ", Arrays.copyOf(violations, count)));
+        }
+    }
+
+    private static BigDecimal readDecimal(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> parser.getText().isBlank() ? null : new BigDecimal(parser.getText().trim());
+            default -> throw new JsonParseException(parser, LOAN_AMOUNT + " deve ser numérico.");
+        };
+    }
+
+    private static Integer readInteger(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getValueAsInt();
+            case VALUE_STRING -> parser.getText().isBlank() ? null : Integer.valueOf(parser.getText().trim());
+            default -> throw new JsonParseException(parser, PAYMENT_TERM_MONTHS + " deve ser um número inteiro.");
+        };
+    }
+
+    // Formatos aceitos pelo LocalDateDeserializer: "yyyy-MM-dd", [ano, mês, dia] ou epoch day.
+    private static LocalDate readDate(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getText().isBlank() ? null : LocalDate.parse(parser.getText().trim());
+            case VALUE_NUMBER_INT -> LocalDate.ofEpochDay(parser.getLongValue());
+            case START_ARRAY -> {
+                int year = nextInt(parser);
+                int month = nextInt(parser);
+                int day = nextInt(parser);
+                if (parser.nextToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, DATE_OF_BIRTH + " deve ser [ano, mês, dia].");
+                }
+                yield LocalDate.of(year, month, day);
+            }
+            default -> throw new JsonParseException(parser, DATE_OF_BIRTH + " deve estar no formato yyyy-MM-dd.");
+        };
+    }
+
+    private static int nextInt(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, DATE_OF_BIRTH + " deve ser [ano, mês, dia].");
+        }
+        return parser.getIntValue();
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        LoadSimulatorResponse response = (LoadSimulatorResponse) object;
+        JsonFactory factory = factoryFor(outputMessage.getHeaders().getContentType());
+        // Fechar o gerador descarrega o buffer, mas não pode fechar o stream do servlet: quem o fecha é o container.
+        try (JsonGenerator generator = factory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            writeResponse(generator, response);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    public void writeResponse(JsonGenerator generator, LoadSimulatorResponse response) throws IOException {
+        // Mesma ordem de campos do Jackson (ordem de declaração em LoadSimulatorResponse).
+        generator.writeStartObject();
+        writeDecimal(generator, "totalAmountPayable", response.getTotalAmountPayable());
+        writeDecimal(generator, "monthlyInstallment", response.getMonthlyInstallment());
+        writeDecimal(generator, "totalInterestPaid", response.getTotalInterestPaid());
+        generator.writeEndObject();
+    }
+
+    private static void writeDecimal(JsonGenerator generator, String field, BigDecimal value) throws IOException {
+        generator.writeFieldName(field);
+        if (value == null) generator.writeNull();
+        else generator.writeNumber(value);
+    }
+
+    private JsonFactory factoryFor(MediaType contentType) {
+        if (contentType != null) {
+            for (Map.Entry<MediaType, JsonFactory> entry : factories.entrySet()) {
+                if (entry.getKey().includes(contentType)) return entry.getValue();
+            }
+        }
+        return defaultFactory;
+    }
+}
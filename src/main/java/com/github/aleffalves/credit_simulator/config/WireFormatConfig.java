@@ -0,0 +1,57 @@
+package com.github.aleffalves.credit_simulator.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.WireFormats;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Formatos binários aceitos por negociação de conteúdo, além do JSON (que continua sendo o padrão).
+ *
+ * <p>Os conversores partem do {@link Jackson2ObjectMapperBuilder} do Spring Boot, então datas, propriedades e módulos
+ * são os mesmos do JSON. Valores monetários ({@code BigDecimal}) nunca viram ponto flutuante: no CBOR são gravados
+ * como fração decimal (tag 4, {@code [expoente, mantissa]}, por exemplo {@code 644.14 -> 4([-2, 64414])}) e no Smile
+ * como o tipo decimal nativo (escala + valor não escalado), preservando a escala de duas casas.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    private static final MediaType APPLICATION_ANY_JSON = new MediaType("application", "*+json");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    // Registrado antes dos conversores Jackson; só trata LoadSimulatorRequest e LoadSimulatorResponse. Aceita os mesmos
+    // tipos JSON que o MappingJackson2HttpMessageConverter (inclusive application/*+json): um subtipo que caísse no
+    // Jackson chegaria ao controller sem a validação feita na leitura.
+    @Bean
+    public LoadSimulatorHttpMessageConverter loadSimulatorHttpMessageConverter(ObjectMapper objectMapper,
+                                                                               MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                                                                               MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter,
+                                                                               RateTable rateTable) {
+        Map<MediaType, JsonFactory> factories = new LinkedHashMap<>();
+        factories.put(MediaType.APPLICATION_JSON, objectMapper.getFactory());
+        factories.put(APPLICATION_ANY_JSON, objectMapper.getFactory());
+        factories.put(MediaType.APPLICATION_CBOR, cborHttpMessageConverter.getObjectMapper().getFactory());
+        factories.put(WireFormats.APPLICATION_SMILE, smileHttpMessageConverter.getObjectMapper().getFactory());
+        return new LoadSimulatorHttpMessageConverter(factories, rateTable);
+    }
+}
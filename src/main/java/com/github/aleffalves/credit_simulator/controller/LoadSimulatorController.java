@@ -1,22 +1,55 @@
 package com.github.aleffalves.credit_simulator.controller;
 
+import com.github.aleffalves.credit_simulator.domain.AmortizationScheduleRow;
+import com.github.aleffalves.credit_simulator.domain.AmortizationSystem;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridCell;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridRequest;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import com.github.aleffalves.credit_simulator.service.AmortizationScheduleService;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorBatchService;
 import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.SimulationETags;
+import com.github.aleffalves.credit_simulator.service.WireFormats;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/load-simulator")
@@ -26,8 +59,23 @@ public class LoadSimulatorController {
     @Autowired
     private LoadSimulatorService loadSimulatorService;
 
+    @Autowired
+    private LoadSimulatorBatchService loadSimulatorBatchService;
+
+    @Autowired
+    private AmortizationScheduleService amortizationScheduleService;
+
+    @Autowired
+    private WireFormats wireFormats;
+
+    @Autowired
+    private SimulationETags simulationETags;
+
+    @Autowired
+    private Validator validator;
+
     @Operation(summary = "Realiza uma simulação de empréstimo",
-            description = "Calcula o valor total a pagar, as parcelas mensais e os juros totais com base no valor, prazo e data de nascimento do cliente (para definir a taxa).")
+            description = "Calcula o valor total a pagar, as parcelas mensais e os juros totais com base no valor, prazo e data de nascimento do cliente (para definir a taxa). Aceita e responde JSON (padrão), CBOR (application/cbor) ou Smile (application/x-jackson-smile) conforme Content-Type e Accept.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Simulação calculada com sucesso",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -41,8 +89,129 @@ public class LoadSimulatorController {
     })
     @PostMapping
     public ResponseEntity<LoadSimulatorResponse> simulate(
-            @Valid @RequestBody LoadSimulatorRequest request) {
+            @RequestBody LoadSimulatorRequest request) {
         return ResponseEntity.ok(loadSimulatorService.simulate(request));
     }
 
+    @Operation(summary = "Realiza uma simulação de empréstimo via GET, com cache HTTP",
+            description = "Mesma simulação do POST, com os dados na query string (dateOfBirth no formato YYYY-MM-DD). A resposta traz um ETag forte calculado só a partir dos dados normalizados e do formato negociado (JSON, CBOR ou Smile) e pode ser reutilizada (Cache-Control/Expires) até a meia-noite local, quando a faixa de taxa do cliente pode mudar. Com If-None-Match igual ao ETag a resposta é 304, sem recalcular a simulação.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Simulação calculada com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorResponse.class))),
+            @ApiResponse(responseCode = "304", description = "A resposta em cache do cliente continua válida"),
+            @ApiResponse(responseCode = "406", description = "O Accept não inclui JSON, CBOR nem Smile"),
+            @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"A data de nascimento não pode ser no futuro.\"}")))
+    })
+    @GetMapping
+    public ResponseEntity<LoadSimulatorResponse> simulate(
+            @ParameterObject LoadSimulatorRequest request,
+            WebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+        validate(request);
+        // O formato é escolhido aqui, e não pelos converters, porque faz parte do ETag.
+        MediaType format = WireFormats.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT),
+                MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, WireFormats.APPLICATION_SMILE);
+        SimulationETags.Validity validity = simulationETags.resolve(request, format);
+        if (webRequest.checkNotModified(validity.eTag())) {
+            return cacheable(ResponseEntity.status(HttpStatus.NOT_MODIFIED), validity).build();
+        }
+        return cacheable(ResponseEntity.ok(), validity).contentType(format).body(loadSimulatorService.simulate(request));
+    }
+
+    // Mesmas mensagens e mesma ordem da leitura do corpo no POST e do lote, para manter o contrato de erro.
+    private void validate(LoadSimulatorRequest request) {
+        Set<ConstraintViolation<LoadSimulatorRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new SimulationValidationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+    }
+
+    // Público para que a CDN também guarde a resposta; Vary porque o mesmo recurso pode sair em JSON, CBOR ou Smile.
+    private static ResponseEntity.BodyBuilder cacheable(ResponseEntity.BodyBuilder builder, SimulationETags.Validity validity) {
+        Duration maxAge = Duration.ofMillis(Math.max(0, validity.validUntilMillis() - System.currentTimeMillis()));
+        return builder.eTag(validity.eTag())
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT)
+                .headers(headers -> headers.setExpires(validity.validUntilMillis()));
+    }
+
+    @Operation(summary = "Realiza simulações de empréstimo em lote",
+            description = "Recebe um array JSON ou um fluxo NDJSON de simulações e devolve, em NDJSON e na mesma ordem, um resultado por item. Itens inválidos retornam uma mensagem de erro sem interromper o lote. Em CBOR ou Smile, a entrada é um array ou uma sequência de valores e a saída é uma sequência de valores, conforme o Accept.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = LoadSimulatorRequest.class))),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorRequest.class)),
+                    @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorRequest.class)),
+                    @Content(mediaType = WireFormats.APPLICATION_SMILE_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorRequest.class))
+            })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultados das simulações, um por linha",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorBatchResult.class)))
+    })
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, WireFormats.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WireFormats.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> simulateBatch(
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws IOException, HttpMediaTypeNotAcceptableException {
+        InputStream input = request.getInputStream();
+        MediaType inputType = MediaType.parseMediaType(request.getContentType());
+        MediaType outputType = WireFormats.negotiate(accept,
+                MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_CBOR, WireFormats.APPLICATION_SMILE);
+        return ResponseEntity.ok()
+                .contentType(outputType)
+                .body(output -> loadSimulatorBatchService.simulate(input, inputType, output, outputType));
+    }
+
+    @Operation(summary = "Gera o cronograma de amortização",
+            description = "Retorna, mês a mês, parcela, juros, amortização e saldo devedor pela Tabela Price ou pelo SAC. As linhas são calculadas e enviadas à medida que a resposta é escrita.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cronograma calculado com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = AmortizationScheduleRow.class)))),
+            @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"A data de nascimento não pode ser no futuro.\"}")))
+    })
+    @PostMapping(value = "/schedule",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, WireFormats.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> schedule(
+            @RequestBody LoadSimulatorRequest request,
+            @Parameter(description = "Sistema de amortização") @RequestParam(defaultValue = "PRICE") AmortizationSystem system,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws HttpMediaTypeNotAcceptableException {
+        Stream<AmortizationScheduleRow> rows = amortizationScheduleService.schedule(request, system);
+        MediaType outputType = WireFormats.negotiate(accept,
+                MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, WireFormats.APPLICATION_SMILE);
+        return ResponseEntity.ok()
+                .contentType(outputType)
+                .body(output -> amortizationScheduleService.write(rows, output, wireFormats.mapperFor(outputType)));
+    }
+
+    @Operation(summary = "Gera uma grade de simulações",
+            description = "Calcula, em uma única chamada, todas as combinações de valores, prazos e faixas de taxa informados. As parcelas são idênticas às de simulações individuais com os mesmos dados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Grade calculada com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = LoadSimulatorGridCell.class)))),
+            @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou grade grande demais",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"A grade tem 200000 combinações; o máximo é 100000.\"}")))
+    })
+    @PostMapping("/grid")
+    public ResponseEntity<List<LoadSimulatorGridCell>> simulateGrid(
+            @Valid @RequestBody LoadSimulatorGridRequest request) {
+        return ResponseEntity.ok(loadSimulatorService.simulateGrid(request));
+    }
+
 }
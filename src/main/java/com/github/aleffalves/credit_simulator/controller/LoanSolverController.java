@@ -0,0 +1,62 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.domain.LoanSolverBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverRequest;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverResponse;
+import com.github.aleffalves.credit_simulator.service.LoanSolverService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/load-simulator/solve")
+@Tag(name = "Simulação de Crédito", description = "Endpoints para simular condições de empréstimo")
+public class LoanSolverController {
+
+    @Autowired
+    private LoanSolverService loanSolverService;
+
+    @Operation(summary = "Responde a uma pergunta inversa à simulação",
+            description = "MAX_LOAN_AMOUNT: maior valor cuja parcela não passa de monthlyInstallment em paymentTermMonths meses. MIN_PAYMENT_TERM: menor prazo para pagar loanAmount com parcela de até monthlyInstallment. EFFECTIVE_COST: custo efetivo total de loanAmount em paymentTermMonths meses, considerando upfrontFees. Todas as respostas trazem o empréstimo resultante, com a mesma parcela da simulação, e o seu custo efetivo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cálculo realizado com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LoanSolverResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou sem solução",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"A parcela de 40.00 não cobre os juros do primeiro mês (63.00).\"}")))
+    })
+    @PostMapping
+    public ResponseEntity<LoanSolverResponse> solve(@Valid @RequestBody LoanSolverRequest request) {
+        return ResponseEntity.ok(loanSolverService.solve(request));
+    }
+
+    @Operation(summary = "Resolve várias perguntas inversas em uma chamada",
+            description = "Recebe um array de pedidos, como no endpoint individual, e devolve um resultado por item, na mesma ordem. Itens inválidos ou sem solução trazem error e não interrompem os demais. O tamanho do lote é limitado por credit-simulator.solver.max-batch-size.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (cada item traz result ou error)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = LoanSolverBatchResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Lote grande demais",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"O lote tem 200000 itens; o máximo é 100000.\"}")))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<LoanSolverBatchResult>> solveAll(@RequestBody List<LoanSolverRequest> requests) {
+        return ResponseEntity.ok(loanSolverService.solveAll(requests));
+    }
+}
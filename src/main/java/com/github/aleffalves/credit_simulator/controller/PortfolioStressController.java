@@ -0,0 +1,43 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressRequest;
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressResponse;
+import com.github.aleffalves.credit_simulator.service.PortfolioStressService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/load-simulator/stress")
+@Tag(name = "Simulação de Crédito", description = "Endpoints para simular condições de empréstimo")
+public class PortfolioStressController {
+
+    @Autowired
+    private PortfolioStressService portfolioStressService;
+
+    @Operation(summary = "Teste de estresse de uma carteira por Monte Carlo",
+            description = "Simula a carteira em milhares ou milhões de cenários, com um choque aleatório na taxa anual de todos os empréstimos e quitação antecipada aleatória de cada um, e devolve média e percentis dos juros totais e da soma das parcelas. A mesma semente reproduz o mesmo resultado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Teste calculado com sucesso",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PortfolioStressResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou teste grande demais",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"O teste tem 2000000 cenários; o máximo é 1000000.\"}")))
+    })
+    @PostMapping
+    public ResponseEntity<PortfolioStressResponse> stress(@Valid @RequestBody PortfolioStressRequest request) {
+        return ResponseEntity.ok(portfolioStressService.stress(request));
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.SimulationJob;
+import com.github.aleffalves.credit_simulator.domain.SimulationJobChunk;
+import com.github.aleffalves.credit_simulator.service.SimulationJobService;
+import com.github.aleffalves.credit_simulator.service.WireFormats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/load-simulator/jobs")
+@Tag(name = "Simulação de Crédito", description = "Endpoints para simular condições de empréstimo")
+public class SimulationJobController {
+
+    @Autowired
+    private SimulationJobService simulationJobService;
+
+    @Operation(summary = "Envia um lote de simulações para processamento assíncrono",
+            description = "Recebe os mesmos formatos da simulação em lote (array JSON, NDJSON, CBOR ou Smile) e responde imediatamente com o identificador do job. O progresso é consultado em /load-simulator/jobs/{jobId} e os resultados, em blocos, em /load-simulator/jobs/{jobId}/results/{chunk}. Com a fila de jobs cheia o envio é recusado com 429 e o cabeçalho Retry-After.")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = LoadSimulatorRequest.class))),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = LoadSimulatorRequest.class))
+            })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job aceito e colocado na fila",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = SimulationJob.class))),
+            @ApiResponse(responseCode = "400", description = "Corpo inválido, vazio ou com itens demais",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"O job não tem itens.\"}"))),
+            @ApiResponse(responseCode = "429", description = "Fila de jobs cheia",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"A fila de jobs está cheia (100 jobs aguardando). Tente novamente mais tarde.\"}")))
+    })
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, WireFormats.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<SimulationJob> submit(HttpServletRequest request) throws IOException {
+        SimulationJob job = simulationJobService.submit(request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Consulta a situação de um job",
+            description = "Retorna a situação, o progresso e quantos blocos de resultado já podem ser consultados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Situação do job",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = SimulationJob.class))),
+            @ApiResponse(responseCode = "404", description = "Job inexistente ou expirado",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(type = "object", example = "{\"message\": \"Job não encontrado ou expirado: 3f2b8c1e-5d7a-4a8e-9b0c-2e6f1a4d9c3b\"}")))
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SimulationJob> status(@PathVariable String jobId) {
+        return ResponseEntity.ok(simulationJobService.status(jobId));
+    }
+
+    @Operation(summary = "Consulta um bloco de resultados de um job",
+            description = "Retorna os resultados do bloco, na ordem de entrada e no mesmo formato da simulação em lote. Blocos ficam disponíveis assim que processados, antes do fim do job; um bloco ainda não processado responde 202 com Retry-After. Se o job falhou, os blocos que não chegaram a ser processados respondem 410 com o erro do job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bloco de resultados",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = SimulationJobChunk.class))),
+            @ApiResponse(responseCode = "202", description = "Bloco ainda não processado"),
+            @ApiResponse(responseCode = "400", description = "Bloco fora do intervalo do job"),
+            @ApiResponse(responseCode = "404", description = "Job inexistente ou expirado"),
+            @ApiResponse(responseCode = "410", description = "O job falhou antes de processar o bloco")
+    })
+    @GetMapping("/{jobId}/results/{chunk}")
+    public ResponseEntity<SimulationJobChunk> results(
+            @PathVariable String jobId,
+            @Parameter(description = "Posição do bloco, começando em zero") @PathVariable int chunk) {
+        SimulationJobChunk results = simulationJobService.chunk(jobId, chunk);
+        if (results == null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        return ResponseEntity.ok(results);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Linha do cronograma de amortização")
+public class AmortizationScheduleRow {
+    @Schema(description = "Número da parcela (começando em 1).", example = "1")
+    private int month;
+
+    @Schema(description = "Valor da parcela do mês (juros + amortização).", example = "644.14")
+    private BigDecimal installment;
+
+    @Schema(description = "Juros pagos no mês.", example = "37.50")
+    private BigDecimal interest;
+
+    @Schema(description = "Valor amortizado do saldo devedor no mês.", example = "606.64")
+    private BigDecimal amortization;
+
+    @Schema(description = "Saldo devedor após o pagamento da parcela.", example = "14393.36")
+    private BigDecimal balance;
+}
@@ -0,0 +1,9 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sistema de amortização: PRICE (parcelas fixas) ou SAC (amortização constante)")
+public enum AmortizationSystem {
+    PRICE,
+    SAC
+}
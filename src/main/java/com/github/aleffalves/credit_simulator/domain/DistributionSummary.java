@@ -0,0 +1,37 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumo da distribuição de um valor entre os cenários")
+public class DistributionSummary {
+    @Schema(description = "Média.", example = "48211.37")
+    private BigDecimal mean;
+
+    @Schema(description = "Menor valor.", example = "31002.18")
+    private BigDecimal min;
+
+    @Schema(description = "Percentil 5.", example = "39870.55")
+    private BigDecimal p5;
+
+    @Schema(description = "Mediana.", example = "48190.02")
+    private BigDecimal p50;
+
+    @Schema(description = "Percentil 95.", example = "56733.91")
+    private BigDecimal p95;
+
+    @Schema(description = "Percentil 99.", example = "59940.40")
+    private BigDecimal p99;
+
+    @Schema(description = "Maior valor.", example = "66518.73")
+    private BigDecimal max;
+}
@@ -0,0 +1,25 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de um item da simulação em lote")
+public class LoadSimulatorBatchResult {
+    @Schema(description = "Posição do item na entrada (começando em zero).", example = "0")
+    private long index;
+
+    @Schema(description = "Resultado da simulação, presente quando o item foi processado com sucesso.")
+    private LoadSimulatorResponse result;
+
+    @Schema(description = "Mensagem de erro, presente quando o item não pôde ser simulado.", example = "A data de nascimento não pode ser no futuro.")
+    private String error;
+}
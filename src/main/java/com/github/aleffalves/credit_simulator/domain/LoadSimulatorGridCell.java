@@ -0,0 +1,37 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Uma célula da grade de simulações")
+public class LoadSimulatorGridCell {
+    @Schema(description = "Valor do empréstimo.", example = "15000.00")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Prazo em meses.", example = "24")
+    private Integer paymentTermMonths;
+
+    @Schema(description = "Faixa de taxa (0 = faixa mais jovem).", example = "1")
+    private Integer rateTier;
+
+    @Schema(description = "Taxa de juros anual da faixa.", example = "0.03")
+    private BigDecimal annualInterestRate;
+
+    @Schema(description = "Valor fixo de cada parcela mensal.", example = "644.72")
+    private BigDecimal monthlyInstallment;
+
+    @Schema(description = "Valor total que será pago ao final do empréstimo (principal + juros).", example = "15473.28")
+    private BigDecimal totalAmountPayable;
+
+    @Schema(description = "Valor total pago apenas em juros.", example = "473.28")
+    private BigDecimal totalInterestPaid;
+}
@@ -0,0 +1,36 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Eixos da grade de simulações: cada combinação de valor, prazo e faixa de taxa gera uma célula")
+public class LoadSimulatorGridRequest {
+    @NotEmpty(message = "Informe ao menos um valor de empréstimo.")
+    @ArraySchema(schema = @Schema(description = "Valores de empréstimo.", example = "15000.00"))
+    private List<@NotNull(message = "O valor do empréstimo não pode ser nulo.")
+                 @Positive(message = "O valor do empréstimo deve ser positivo.") BigDecimal> loanAmounts;
+
+    @NotEmpty(message = "Informe ao menos um prazo de pagamento.")
+    @ArraySchema(schema = @Schema(description = "Prazos em meses.", example = "24"))
+    private List<@NotNull(message = "O prazo de pagamento não pode ser nulo.")
+                 @Positive(message = "O prazo de pagamento deve ser positivo.") Integer> paymentTermsMonths;
+
+    @ArraySchema(schema = @Schema(description = "Faixas de taxa (0 = faixa mais jovem). Se omitido, usa todas as faixas configuradas.", example = "0"))
+    private List<@NotNull(message = "A faixa de taxa não pode ser nula.")
+                 @PositiveOrZero(message = "A faixa de taxa não pode ser negativa.") Integer> rateTiers;
+}
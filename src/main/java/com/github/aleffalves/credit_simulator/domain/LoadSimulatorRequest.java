@@ -18,18 +18,26 @@ import java.time.LocalDate;
 @Builder
 @Schema(description = "Dados de entrada para a simulação de empréstimo")
 public class LoadSimulatorRequest {
-    @NotNull(message = "O valor do empréstimo não pode ser nulo.")
-    @Positive(message = "O valor do empréstimo deve ser positivo.")
+    // Reutilizadas pela validação feita durante a leitura (LoadSimulatorHttpMessageConverter).
+    public static final String LOAN_AMOUNT_NULL = "O valor do empréstimo não pode ser nulo.";
+    public static final String LOAN_AMOUNT_NOT_POSITIVE = "O valor do empréstimo deve ser positivo.";
+    public static final String DATE_OF_BIRTH_NULL = "A data de nascimento não pode ser nula.";
+    public static final String DATE_OF_BIRTH_NOT_PAST = "A data de nascimento deve ser no passado.";
+    public static final String PAYMENT_TERM_NULL = "O prazo de pagamento não pode ser nulo.";
+    public static final String PAYMENT_TERM_NOT_POSITIVE = "O prazo de pagamento deve ser positivo.";
+
+    @NotNull(message = LOAN_AMOUNT_NULL)
+    @Positive(message = LOAN_AMOUNT_NOT_POSITIVE)
     @Schema(description = "Valor total solicitado para o empréstimo.", example = "15000.00", requiredMode = Schema.RequiredMode.REQUIRED)
     private BigDecimal loanAmount;
 
-    @NotNull(message = "A data de nascimento não pode ser nula.")
-    @Past(message = "A data de nascimento deve ser no passado.")
+    @NotNull(message = DATE_OF_BIRTH_NULL)
+    @Past(message = DATE_OF_BIRTH_NOT_PAST)
     @Schema(description = "Data de nascimento do cliente (formato YYYY-MM-DD). Usada para calcular a taxa de juros.", example = "1988-10-25", requiredMode = Schema.RequiredMode.REQUIRED)
     private LocalDate dateOfBirth;
 
-    @NotNull(message = "O prazo de pagamento não pode ser nulo.")
-    @Positive(message = "O prazo de pagamento deve ser positivo.")
+    @NotNull(message = PAYMENT_TERM_NULL)
+    @Positive(message = PAYMENT_TERM_NOT_POSITIVE)
     @Schema(description = "Número de meses para pagar o empréstimo.", example = "24", requiredMode = Schema.RequiredMode.REQUIRED)
     private Integer paymentTermMonths;
 }
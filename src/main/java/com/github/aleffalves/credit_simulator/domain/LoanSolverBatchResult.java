@@ -0,0 +1,25 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de um item do cálculo inverso em lote")
+public class LoanSolverBatchResult {
+    @Schema(description = "Posição do item na entrada (começando em zero).", example = "0")
+    private long index;
+
+    @Schema(description = "Resultado do cálculo, presente quando o item foi processado com sucesso.")
+    private LoanSolverResponse result;
+
+    @Schema(description = "Mensagem de erro, presente quando o item não pôde ser calculado.", example = "A parcela de 40.00 não cobre os juros do primeiro mês (63.00).")
+    private String error;
+}
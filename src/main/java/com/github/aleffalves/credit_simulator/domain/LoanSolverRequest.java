@@ -0,0 +1,46 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Pergunta inversa à simulação: os campos obrigatórios dependem de target")
+public class LoanSolverRequest {
+    @NotNull(message = "Informe o que deve ser calculado.")
+    @Schema(description = "O que calcular.", example = "MAX_LOAN_AMOUNT", requiredMode = Schema.RequiredMode.REQUIRED)
+    private SolverTarget target;
+
+    @NotNull(message = LoadSimulatorRequest.DATE_OF_BIRTH_NULL)
+    @Past(message = LoadSimulatorRequest.DATE_OF_BIRTH_NOT_PAST)
+    @Schema(description = "Data de nascimento do cliente (formato YYYY-MM-DD). Usada para calcular a taxa de juros.", example = "1988-10-25", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDate dateOfBirth;
+
+    @Positive(message = "A parcela mensal deve ser positiva.")
+    @Schema(description = "Parcela mensal máxima. Obrigatória para MAX_LOAN_AMOUNT e MIN_PAYMENT_TERM.", example = "650.00")
+    private BigDecimal monthlyInstallment;
+
+    @Positive(message = LoadSimulatorRequest.LOAN_AMOUNT_NOT_POSITIVE)
+    @Schema(description = "Valor do empréstimo. Obrigatório para MIN_PAYMENT_TERM e EFFECTIVE_COST.", example = "15000.00")
+    private BigDecimal loanAmount;
+
+    @Positive(message = LoadSimulatorRequest.PAYMENT_TERM_NOT_POSITIVE)
+    @Schema(description = "Prazo em meses. Obrigatório para MAX_LOAN_AMOUNT e EFFECTIVE_COST.", example = "24")
+    private Integer paymentTermMonths;
+
+    @PositiveOrZero(message = "As tarifas não podem ser negativas.")
+    @Schema(description = "Tarifas pagas na contratação (IOF, TAC, seguro), descontadas do valor liberado no cálculo do custo efetivo.", example = "150.00")
+    private BigDecimal upfrontFees;
+}
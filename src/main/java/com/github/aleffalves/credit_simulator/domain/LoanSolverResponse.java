@@ -0,0 +1,46 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Empréstimo que responde à pergunta inversa, com o seu custo efetivo")
+public class LoanSolverResponse {
+    @Schema(description = "O que foi calculado.", example = "MAX_LOAN_AMOUNT")
+    private SolverTarget target;
+
+    @Schema(description = "Valor do empréstimo (calculado para MAX_LOAN_AMOUNT).", example = "15134.52")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Prazo em meses (calculado para MIN_PAYMENT_TERM).", example = "24")
+    private Integer paymentTermMonths;
+
+    @Schema(description = "Faixa de taxa (0 = faixa mais jovem).", example = "1")
+    private Integer rateTier;
+
+    @Schema(description = "Taxa de juros anual da faixa.", example = "0.03")
+    private BigDecimal annualInterestRate;
+
+    @Schema(description = "Parcela mensal do empréstimo, igual à de uma simulação com os mesmos dados.", example = "649.99")
+    private BigDecimal monthlyInstallment;
+
+    @Schema(description = "Valor total que será pago ao final do empréstimo (principal + juros).", example = "15599.76")
+    private BigDecimal totalAmountPayable;
+
+    @Schema(description = "Valor total pago apenas em juros.", example = "465.24")
+    private BigDecimal totalInterestPaid;
+
+    @Schema(description = "Custo efetivo mensal: taxa interna de retorno das parcelas sobre o valor liberado (empréstimo menos tarifas).", example = "0.002500")
+    private BigDecimal effectiveMonthlyCost;
+
+    @Schema(description = "Custo efetivo total (CET) anual: (1 + custo mensal)^12 - 1.", example = "0.030416")
+    private BigDecimal effectiveAnnualCost;
+}
@@ -0,0 +1,45 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Carteira de empréstimos e premissas do teste de estresse por Monte Carlo")
+public class PortfolioStressRequest {
+    @NotEmpty(message = "Informe ao menos um empréstimo.")
+    @ArraySchema(schema = @Schema(implementation = LoadSimulatorRequest.class, description = "Empréstimos da carteira."))
+    private List<@NotNull(message = "O empréstimo não pode ser nulo.") @Valid LoadSimulatorRequest> loans;
+
+    @NotNull(message = "O número de cenários não pode ser nulo.")
+    @Positive(message = "O número de cenários deve ser positivo.")
+    @Schema(description = "Número de cenários simulados.", example = "100000", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer paths;
+
+    @Schema(description = "Semente do gerador. A mesma semente produz o mesmo resultado, qualquer que seja o paralelismo; se omitida, é sorteada e devolvida na resposta.", example = "42")
+    private Long seed;
+
+    @PositiveOrZero(message = "O desvio-padrão do choque de taxa não pode ser negativo.")
+    @Schema(description = "Desvio-padrão do choque aplicado à taxa anual de toda a carteira em cada cenário (0.01 = 1 ponto percentual).", example = "0.01")
+    private BigDecimal rateShockStdDev;
+
+    @PositiveOrZero(message = "A taxa de pré-pagamento não pode ser negativa.")
+    @DecimalMax(value = "0.99", message = "A taxa de pré-pagamento deve ser no máximo 0.99.")
+    @Schema(description = "Probabilidade anual de quitação antecipada de cada empréstimo (CPR).", example = "0.05")
+    private BigDecimal annualPrepaymentRate;
+}
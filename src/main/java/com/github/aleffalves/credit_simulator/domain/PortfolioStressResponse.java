@@ -0,0 +1,34 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado do teste de estresse da carteira")
+public class PortfolioStressResponse {
+    @Schema(description = "Número de empréstimos da carteira.", example = "250")
+    private Integer loans;
+
+    @Schema(description = "Número de cenários simulados.", example = "100000")
+    private Integer paths;
+
+    @Schema(description = "Semente usada; repetir a requisição com ela reproduz o resultado.", example = "42")
+    private Long seed;
+
+    @Schema(description = "Juros totais pagos pela carteira em cada cenário.")
+    private DistributionSummary totalInterestPaid;
+
+    @Schema(description = "Soma das parcelas mensais da carteira em cada cenário.")
+    private DistributionSummary monthlyInstallment;
+
+    @Schema(description = "Fração média de empréstimos quitados antecipadamente.", example = "0.2104")
+    private BigDecimal prepaidShare;
+}
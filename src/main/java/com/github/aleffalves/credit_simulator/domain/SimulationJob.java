@@ -0,0 +1,54 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Situação e progresso de um job de simulação em lote")
+public class SimulationJob {
+    @Schema(description = "Identificador do job.", example = "3f2b8c1e-5d7a-4a8e-9b0c-2e6f1a4d9c3b")
+    private String jobId;
+
+    @Schema(description = "Situação atual do job.", example = "RUNNING")
+    private SimulationJobStatus status;
+
+    @Schema(description = "Quantidade de itens recebidos.", example = "250000")
+    private long totalItems;
+
+    @Schema(description = "Quantidade de itens já processados.", example = "120000")
+    private long processedItems;
+
+    @Schema(description = "Percentual concluído, de 0 a 100.", example = "48.0")
+    private double progress;
+
+    @Schema(description = "Quantidade máxima de resultados por bloco.", example = "1000")
+    private int chunkSize;
+
+    @Schema(description = "Total de blocos de resultado do job.", example = "250")
+    private int totalChunks;
+
+    @Schema(description = "Blocos já disponíveis para consulta (de 0 a availableChunks - 1).", example = "120")
+    private int availableChunks;
+
+    @Schema(description = "Momento em que o job foi recebido.")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Momento em que o job terminou, presente quando COMPLETED ou FAILED.")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Momento a partir do qual o job e seus resultados deixam de estar disponíveis.")
+    private LocalDateTime expiresAt;
+
+    @Schema(description = "Motivo da falha, presente quando FAILED.")
+    private String error;
+}
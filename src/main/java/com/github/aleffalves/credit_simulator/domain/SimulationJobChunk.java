@@ -0,0 +1,28 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Bloco de resultados de um job de simulação")
+public class SimulationJobChunk {
+    @Schema(description = "Identificador do job.", example = "3f2b8c1e-5d7a-4a8e-9b0c-2e6f1a4d9c3b")
+    private String jobId;
+
+    @Schema(description = "Posição do bloco (começando em zero).", example = "0")
+    private int chunk;
+
+    @Schema(description = "Total de blocos de resultado do job.", example = "250")
+    private int totalChunks;
+
+    @Schema(description = "Resultados do bloco, na ordem de entrada, no mesmo formato da simulação em lote.")
+    private List<LoadSimulatorBatchResult> results;
+}
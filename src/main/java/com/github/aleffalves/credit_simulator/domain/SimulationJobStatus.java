@@ -0,0 +1,11 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Situação de um job de simulação: QUEUED (na fila), RUNNING (em processamento), COMPLETED ou FAILED")
+public enum SimulationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.github.aleffalves.credit_simulator.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "O que calcular: MAX_LOAN_AMOUNT (maior valor para uma parcela), MIN_PAYMENT_TERM (menor prazo para uma parcela) ou EFFECTIVE_COST (custo efetivo total de um empréstimo)")
+public enum SolverTarget {
+    MAX_LOAN_AMOUNT,
+    MIN_PAYMENT_TERM,
+    EFFECTIVE_COST
+}
@@ -1,15 +1,27 @@
 package com.github.aleffalves.credit_simulator.exception;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.metrics.SimulationMetrics;
+import com.github.aleffalves.credit_simulator.service.WireFormats;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.apache.coyote.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,8 +29,47 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Corpos de erro pré-montados para as mensagens conhecidas; só o timestamp muda entre respostas.
+    private static final Map<String, ErrorTemplate> TEMPLATES = ErrorTemplate.of(
+            LoadSimulatorRequest.LOAN_AMOUNT_NULL,
+            LoadSimulatorRequest.LOAN_AMOUNT_NOT_POSITIVE,
+            LoadSimulatorRequest.DATE_OF_BIRTH_NULL,
+            LoadSimulatorRequest.DATE_OF_BIRTH_NOT_PAST,
+            LoadSimulatorRequest.PAYMENT_TERM_NULL,
+            LoadSimulatorRequest.PAYMENT_TERM_NOT_POSITIVE,
+            SimulationValidationException.FUTURE_DATE_OF_BIRTH,
+            SimulationValidationException.NEGATIVE_AGE,
+            SimulationValidationException.INVALID_ARGUMENTS);
+
+    // Somente leitura: o mesmo cabeçalho serve a todas as respostas de template.
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+
+    @Autowired
+    private SimulationMetrics metrics;
+
+    private volatile Timestamp timestamp = Timestamp.of(System.currentTimeMillis());
+
+    private volatile AcceptDecision lastAccept = new AcceptDecision(null, true);
+
+    /**
+     * Caminho barato para entradas rejeitadas: a exceção não tem stack trace e, quando o cliente aceita JSON, o corpo
+     * vem de um template, sem {@code HashMap} nem serialização. O formato é o mesmo dos demais erros 400.
+     */
+    @ExceptionHandler(SimulationValidationException.class)
+    public ResponseEntity<?> handleValidationException(SimulationValidationException ex, WebRequest request) {
+        metrics.recordError(ex);
+        if (!acceptsJsonFirst(request.getHeader(HttpHeaders.ACCEPT))) {
+            return badRequest(ex.getMessage());
+        }
+
+        ErrorTemplate template = TEMPLATES.get(ex.getMessage());
+        if (template == null) template = new ErrorTemplate(ex.getMessage());
+        return new ResponseEntity<>(template.render(currentTimestamp()), JSON_HEADERS, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<?> handleGlobalException(BadRequestException ex, WebRequest request) {
+        metrics.recordError(ex);
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("message", ex.getMessage());
@@ -29,6 +80,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleGlobalException(MethodArgumentNotValidException ex, WebRequest request) {
+        metrics.recordError(ex);
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("message", ex.getMessage());
@@ -39,16 +91,67 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<?> handleGlobalException(IllegalArgumentException ex, WebRequest request) {
+        metrics.recordError(ex);
+        return badRequest(ex.getMessage());
+    }
+
+    private static ResponseEntity<?> badRequest(String message) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
-        body.put("message", ex.getMessage());
+        body.put("message", message);
         body.put("status", HttpStatus.BAD_REQUEST.value());
 
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(SimulationJobNotFoundException.class)
+    public ResponseEntity<?> handleGlobalException(SimulationJobNotFoundException ex, WebRequest request) {
+        metrics.recordError(ex);
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", ex.getMessage());
+        body.put("status", HttpStatus.NOT_FOUND.value());
+
+        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(SimulationJobFailedException.class)
+    public ResponseEntity<?> handleGlobalException(SimulationJobFailedException ex, WebRequest request) {
+        metrics.recordError(ex);
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", ex.getMessage());
+        body.put("status", HttpStatus.GONE.value());
+
+        return new ResponseEntity<>(body, HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(SimulationJobQueueFullException.class)
+    public ResponseEntity<?> handleGlobalException(SimulationJobQueueFullException ex, WebRequest request) {
+        metrics.recordError(ex);
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", ex.getMessage());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    /**
+     * Nenhum dos formatos que o endpoint produz é aceito pelo cliente: 406 sem corpo, já que não há em que formato
+     * escrevê-lo.
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleNotAcceptable(HttpMediaTypeNotAcceptableException ex) {
+        metrics.recordError(ex);
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGlobalException(Exception ex, WebRequest request) {
+        metrics.recordError(ex);
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("message", "An unexpected error occurred");
@@ -58,4 +161,73 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    // Sem Accept, ou sem nenhum formato conhecido nele, o erro sai no template JSON, como antes da negociação. Os
+    // clientes costumam repetir o mesmo Accept, então a última decisão é reaproveitada sem interpretar o cabeçalho.
+    private boolean acceptsJsonFirst(String accept) {
+        if (accept == null) return true;
+        AcceptDecision last = lastAccept;
+        if (accept.equals(last.accept)) return last.json;
+
+        boolean json;
+        try {
+            json = WireFormats.negotiate(accept, MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+                    WireFormats.APPLICATION_SMILE) == MediaType.APPLICATION_JSON;
+        } catch (HttpMediaTypeNotAcceptableException ex) {
+            json = true;
+        }
+        lastAccept = new AcceptDecision(accept, json);
+        return json;
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    // O timestamp formatado é reaproveitado por todas as respostas do mesmo milissegundo.
+    private byte[] currentTimestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp current = timestamp;
+        if (current.millis != now) {
+            current = Timestamp.of(now);
+            timestamp = current;
+        }
+        return current.utf8;
+    }
+
+    private record AcceptDecision(String accept, boolean json) {
+    }
+
+    private record Timestamp(long millis, byte[] utf8) {
+        static Timestamp of(long millis) {
+            // Mesmo formato do LocalDateTime serializado pelo Jackson nos demais erros.
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+            return new Timestamp(millis, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static final class ErrorTemplate {
+        private final byte[] prefix;
+        private final byte[] suffix = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+        private ErrorTemplate(String message) {
+            this.prefix = ("{\"message\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(message))
+                    + "\",\"status\":" + HttpStatus.BAD_REQUEST.value() + ",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+        }
+
+        static Map<String, ErrorTemplate> of(String... messages) {
+            Map<String, ErrorTemplate> templates = new HashMap<>();
+            for (String message : messages) templates.put(message, new ErrorTemplate(message));
+            return Map.copyOf(templates);
+        }
+
+        byte[] render(byte[] timestamp) {
+            byte[] body = new byte[prefix.length + timestamp.length + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+            System.arraycopy(suffix, 0, body, prefix.length + timestamp.length, suffix.length);
+            return body;
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.github.aleffalves.credit_simulator.exception;
+
+/**
+ * Bloco de resultados que nunca vai existir: o job falhou antes de processá-lo.
+ */
+public class SimulationJobFailedException extends RuntimeException {
+
+    public SimulationJobFailedException(String jobId, int chunk, String error) {
+        super("O job " + jobId + " falhou antes de processar o bloco " + chunk + ": " + error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.aleffalves.credit_simulator.exception;
+
+/**
+ * Job inexistente ou cujos resultados já expiraram.
+ */
+public class SimulationJobNotFoundException extends RuntimeException {
+
+    public SimulationJobNotFoundException(String jobId) {
+        super("Job não encontrado ou expirado: " + jobId);
+    }
+}
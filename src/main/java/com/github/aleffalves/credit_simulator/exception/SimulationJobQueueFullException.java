@@ -0,0 +1,30 @@
+package com.github.aleffalves.credit_simulator.exception;
+
+/**
+ * Fila de jobs cheia. O cliente deve tentar novamente depois de {@code retryAfterSeconds}.
+ *
+ * <p>Como {@link SimulationValidationException}, não captura stack trace: sob sobrecarga essa exceção é frequente e
+ * não indica erro de programação.
+ */
+public class SimulationJobQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public SimulationJobQueueFullException(int queueCapacity, long retryAfterSeconds) {
+        this("A fila de jobs está cheia (" + queueCapacity + " jobs aguardando). Tente novamente mais tarde.", retryAfterSeconds);
+    }
+
+    public SimulationJobQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
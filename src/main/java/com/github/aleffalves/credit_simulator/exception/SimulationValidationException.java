@@ -0,0 +1,25 @@
+package com.github.aleffalves.credit_simulator.exception;
+
+/**
+ * Entrada rejeitada por uma regra de negócio ou de validação. É uma condição esperada, e não um erro de programação.
+ * Por isso a exceção não captura stack trace: criá-la custa o mesmo que qualquer outro objeto pequeno.
+ *
+ * <p>Continua sendo uma {@link IllegalArgumentException}, então quem já trata esse tipo (lote, grade, testes) não muda.
+ */
+public class SimulationValidationException extends IllegalArgumentException {
+
+    public static final String FUTURE_DATE_OF_BIRTH = "A data de nascimento não pode ser no futuro.";
+    public static final String NEGATIVE_AGE = "A idade não pode ser negativa.";
+    public static final String INVALID_ARGUMENTS = "Argumentos inválidos para o calculo.";
+    public static final String LOAN_AMOUNT_TOO_LARGE_FOR_SCHEDULE = "O valor do empréstimo é grande demais para gerar o cronograma.";
+    public static final String LOAN_AMOUNT_TOO_LARGE = "O valor do empréstimo excede o limite suportado pelo cálculo.";
+
+    public SimulationValidationException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
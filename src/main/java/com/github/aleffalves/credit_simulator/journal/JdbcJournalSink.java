@@ -0,0 +1,92 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Copia cada lote do diário para a tabela {@code simulation_journal} com um único {@code executeBatch}. É um destino
+ * secundário: o segmento em disco continua sendo o registro de referência, e uma falha aqui só é contada e logada.
+ *
+ * <p>Os valores não têm limite na API, então as colunas numéricas usam a precisão máxima do PostgreSQL (1000
+ * dígitos), com a escala de antes. Se o banco ainda recusar o lote, ele é repetido linha a linha, para que uma
+ * entrada inválida não leve as outras junto.
+ */
+class JdbcJournalSink implements JournalSink {
+
+    static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS simulation_journal (
+                sequence BIGINT PRIMARY KEY,
+                recorded_at TIMESTAMP NOT NULL,
+                loan_amount NUMERIC(1000, 4) NOT NULL,
+                date_of_birth DATE NOT NULL,
+                payment_term_months INTEGER NOT NULL,
+                monthly_installment NUMERIC(1000, 2) NOT NULL,
+                total_amount_payable NUMERIC(1000, 2) NOT NULL,
+                total_interest_paid NUMERIC(1000, 2) NOT NULL
+            )""";
+
+    private static final String INSERT = "INSERT INTO simulation_journal (sequence, recorded_at, loan_amount, date_of_birth, "
+            + "payment_term_months, monthly_installment, total_amount_payable, total_interest_paid) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcJournalSink(DataSource dataSource, boolean initializeSchema) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        if (initializeSchema) jdbcTemplate.execute(CREATE_TABLE);
+    }
+
+    @Override
+    public String name() {
+        return "jdbc";
+    }
+
+    @Override
+    public void write(List<JournalEntry> batch) throws IOException {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), JdbcJournalSink::bind);
+        } catch (DataAccessException ex) {
+            if (batch.size() == 1) throw ex;
+            writeEach(batch);
+        }
+    }
+
+    // O driver pode ter gravado parte do lote antes da falha; essas linhas voltam como chave duplicada e já estão lá.
+    private void writeEach(List<JournalEntry> batch) throws IOException {
+        int rejected = 0;
+        DataAccessException first = null;
+        for (JournalEntry entry : batch) {
+            try {
+                jdbcTemplate.update(INSERT, statement -> bind(statement, entry));
+            } catch (DuplicateKeyException ex) {
+                // Gravada pelo lote.
+            } catch (DataAccessException ex) {
+                rejected++;
+                if (first == null) first = ex;
+            }
+        }
+        if (first != null) {
+            throw new IOException(rejected + " de " + batch.size() + " entradas recusadas pelo banco: "
+                    + first.getMostSpecificCause().getMessage(), first);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, JournalEntry entry) throws SQLException {
+        statement.setLong(1, entry.sequence());
+        statement.setTimestamp(2, new Timestamp(entry.recordedAtMillis()));
+        statement.setBigDecimal(3, entry.loanAmount());
+        statement.setDate(4, Date.valueOf(entry.dateOfBirth()));
+        statement.setInt(5, entry.paymentTermMonths());
+        statement.setBigDecimal(6, entry.monthlyInstallment());
+        statement.setBigDecimal(7, entry.totalAmountPayable());
+        statement.setBigDecimal(8, entry.totalInterestPaid());
+    }
+}
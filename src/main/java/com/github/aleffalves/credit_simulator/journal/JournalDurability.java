@@ -0,0 +1,13 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+/**
+ * Quando os segmentos mapeados em memória são forçados para o disco ({@code MappedByteBuffer.force()}).
+ */
+public enum JournalDurability {
+    // Fica a cargo do sistema operacional; sobrevive à queda da JVM, mas não à do sistema.
+    NONE,
+    // No máximo a cada credit-simulator.journal.force-interval.
+    INTERVAL,
+    // Depois de cada lote escrito.
+    BATCH
+}
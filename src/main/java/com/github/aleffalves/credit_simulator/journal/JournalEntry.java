@@ -0,0 +1,31 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Uma simulação registrada no diário: a requisição, o resultado e o número de sequência atribuído na gravação.
+ */
+public record JournalEntry(long sequence,
+                           long recordedAtMillis,
+                           BigDecimal loanAmount,
+                           LocalDate dateOfBirth,
+                           int paymentTermMonths,
+                           BigDecimal monthlyInstallment,
+                           BigDecimal totalAmountPayable,
+                           BigDecimal totalInterestPaid) {
+
+    static JournalEntry of(long sequence, long recordedAtMillis, LoadSimulatorRequest request, LoadSimulatorResponse response) {
+        return new JournalEntry(sequence, recordedAtMillis,
+                request.getLoanAmount(), request.getDateOfBirth(), request.getPaymentTermMonths(),
+                response.getMonthlyInstallment(), response.getTotalAmountPayable(), response.getTotalInterestPaid());
+    }
+
+    JournalEntry withSequence(long newSequence) {
+        return new JournalEntry(newSequence, recordedAtMillis, loanAmount, dateOfBirth, paymentTermMonths,
+                monthlyInstallment, totalAmountPayable, totalInterestPaid);
+    }
+}
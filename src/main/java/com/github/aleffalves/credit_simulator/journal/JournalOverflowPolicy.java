@@ -0,0 +1,11 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+/**
+ * O que fazer quando o buffer do diário está cheio. Nenhuma política bloqueia quem está simulando.
+ */
+public enum JournalOverflowPolicy {
+    // Descarta a entrada nova e mantém as que já estavam na fila.
+    DROP_NEWEST,
+    // Descarta as entradas mais antigas da fila para abrir espaço para a nova.
+    DROP_OLDEST
+}
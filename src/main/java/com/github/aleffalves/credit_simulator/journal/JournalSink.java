@@ -0,0 +1,21 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destino dos lotes drenados do buffer do diário. Só é chamado pela thread de escrita, nunca por quem simula.
+ */
+interface JournalSink {
+
+    String name();
+
+    void write(List<JournalEntry> batch) throws IOException;
+
+    // Garante que o que já foi escrito sobreviva a uma queda do sistema operacional.
+    default void force() throws IOException {
+    }
+
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Diário em arquivos de segmento de tamanho fixo, mapeados em memória e escritos apenas por acréscimo. Cada entrada é
+ * uma linha ASCII {@code sequência;epochMillis;valor;nascimento;prazo;parcela;total;juros}. O segmento é criado já
+ * com o tamanho final, e o trecho ainda não escrito fica zerado: a leitura para no primeiro byte 0.
+ *
+ * <p>O nome do segmento é a sequência da sua primeira entrada, então a ordem alfabética dos arquivos é a ordem do
+ * diário, e a sequência continua de onde parou depois de um reinício.
+ */
+class MappedSegmentJournal implements JournalSink {
+
+    static final String PREFIX = "journal-";
+    static final String SUFFIX = ".log";
+
+    private static final int MAX_LINE = 256;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final byte[] line = new byte[MAX_LINE];
+    private final long nextSequence;
+    private MappedByteBuffer segment;
+
+    MappedSegmentJournal(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MAX_LINE) throw new IllegalArgumentException("O segmento do diário deve ter ao menos " + MAX_LINE + " bytes.");
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        List<Path> segments = segments(directory);
+        this.nextSequence = segments.isEmpty() ? 0 : lastSequence(segments.get(segments.size() - 1)) + 1;
+    }
+
+    @Override
+    public String name() {
+        return "segment";
+    }
+
+    // Sequência a partir da qual o diário deve continuar.
+    long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public void write(List<JournalEntry> batch) throws IOException {
+        for (JournalEntry entry : batch) {
+            int length = encode(entry);
+            if (segment == null || segment.remaining() < length) roll(entry.sequence());
+            segment.put(line, 0, length);
+        }
+    }
+
+    @Override
+    public void force() {
+        if (segment != null) segment.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+        segment = null;
+    }
+
+    private void roll(long firstSequence) throws IOException {
+        force();
+        Path file = directory.resolve(PREFIX + String.format("%020d", firstSequence) + SUFFIX);
+        // CREATE e não CREATE_NEW: um segmento criado e nunca escrito antes de um reinício tem o mesmo nome e é reaproveitado.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // O mapeamento continua válido depois de fechar o canal.
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    /**
+     * Indica se a entrada cabe em uma linha de {@code MAX_LINE} bytes. O valor do empréstimo não tem limite superior,
+     * então uma entrada pode não caber; ela é descartada antes de receber uma sequência, sem afetar as demais do lote.
+     */
+    static boolean fits(JournalEntry entry) {
+        int length = Long.toString(entry.sequence()).length()
+                + Long.toString(entry.recordedAtMillis()).length()
+                + entry.loanAmount().toPlainString().length()
+                + entry.dateOfBirth().toString().length()
+                + Integer.toString(entry.paymentTermMonths()).length()
+                + entry.monthlyInstallment().toPlainString().length()
+                + entry.totalAmountPayable().toPlainString().length()
+                + entry.totalInterestPaid().toPlainString().length()
+                + 8;
+        return length <= MAX_LINE;
+    }
+
+    private int encode(JournalEntry entry) {
+        int position = 0;
+        position = put(position, Long.toString(entry.sequence()));
+        position = put(position, Long.toString(entry.recordedAtMillis()));
+        position = put(position, entry.loanAmount().toPlainString());
+        position = put(position, entry.dateOfBirth().toString());
+        position = put(position, Integer.toString(entry.paymentTermMonths()));
+        position = put(position, entry.monthlyInstallment().toPlainString());
+        position = put(position, entry.totalAmountPayable().toPlainString());
+        position = put(position, entry.totalInterestPaid().toPlainString());
+        line[position - 1] = '\n';
+        return position;
+    }
+
+    private int put(int position, String value) {
+        if (position + value.length() + 1 > MAX_LINE) throw new IllegalArgumentException("Entrada do diário grande demais.");
+        for (int i = 0; i < value.length(); i++) {
+            line[position++] = (byte) value.charAt(i);
+        }
+        line[position++] = ';';
+        return position;
+    }
+
+    /**
+     * Lê todas as entradas dos segmentos de {@code directory}, em ordem.
+     */
+    static List<JournalEntry> readAll(Path directory) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (Path segment : segments(directory)) {
+            entries.addAll(read(segment));
+        }
+        return entries;
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long lastSequence(Path segment) throws IOException {
+        List<JournalEntry> entries = read(segment);
+        if (entries.isEmpty()) {
+            String name = segment.getFileName().toString();
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())) - 1;
+        }
+        return entries.get(entries.size() - 1).sequence();
+    }
+
+    private static List<JournalEntry> read(Path segment) throws IOException {
+        byte[] content = Files.readAllBytes(segment);
+        int end = 0;
+        while (end < content.length && content[end] != 0) end++;
+        // Uma linha sem '\n' no fim é uma escrita interrompida e é ignorada.
+        while (end > 0 && content[end - 1] != '\n') end--;
+
+        List<JournalEntry> entries = new ArrayList<>();
+        for (String row : new String(content, 0, end, StandardCharsets.US_ASCII).split("\n")) {
+            if (row.isEmpty()) continue;
+            String[] fields = row.split(";");
+            entries.add(new JournalEntry(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                    new BigDecimal(fields[2]), LocalDate.parse(fields[3]), Integer.parseInt(fields[4]),
+                    new BigDecimal(fields[5]), new BigDecimal(fields[6]), new BigDecimal(fields[7])));
+        }
+        return entries;
+    }
+}
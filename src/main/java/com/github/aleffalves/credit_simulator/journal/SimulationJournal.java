@@ -0,0 +1,257 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diário de auditoria com escrita adiada (write-behind). {@link #record} só coloca a simulação em um buffer circular
+ * limitado ({@code credit-simulator.journal.buffer-size}) e retorna; uma única thread de escrita drena o buffer em
+ * lotes de até {@code batch-size} entradas para os segmentos mapeados em memória ({@link MappedSegmentJournal}) e,
+ * opcionalmente, para o banco ({@link JdbcJournalSink}). Quem simula nunca espera por I/O: com o buffer cheio a
+ * entrada nova ou a mais antiga é descartada, conforme {@link JournalOverflowPolicy}, e o descarte é contado.
+ *
+ * <p>A sequência é atribuída pela thread de escrita, então ela é estritamente crescente nos segmentos e continua
+ * depois de um reinício. Entradas descartadas (buffer cheio ou grandes demais para uma linha do segmento) não
+ * consomem sequência; o contador {@code credit.simulator.journal.entries{result="dropped"}} mostra quantas foram
+ * perdidas.
+ */
+@Component
+public class SimulationJournal {
+
+    public static final String ENTRIES_COUNTER = "credit.simulator.journal.entries";
+    public static final String WRITE_FAILURES_COUNTER = "credit.simulator.journal.write.failures";
+    public static final String BUFFER_GAUGE = "credit.simulator.journal.buffer.size";
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationJournal.class);
+
+    private final ArrayBlockingQueue<JournalEntry> buffer;
+    private final List<JournalSink> sinks;
+    private final int batchSize;
+    private final JournalOverflowPolicy overflowPolicy;
+    private final JournalDurability durability;
+    private final long flushIntervalNanos;
+    private final long forceIntervalNanos;
+    private final Counter recorded;
+    private final Counter dropped;
+    private final Counter[] writeFailures;
+    private final Thread writer;
+    private long nextSequence;
+    private volatile boolean running = true;
+
+    @Autowired
+    public SimulationJournal(@Value("${credit-simulator.journal.enabled:false}") boolean enabled,
+                             @Value("${credit-simulator.journal.directory:data/journal}") Path directory,
+                             @Value("${credit-simulator.journal.segment-size:64MB}") DataSize segmentSize,
+                             @Value("${credit-simulator.journal.buffer-size:65536}") int bufferSize,
+                             @Value("${credit-simulator.journal.batch-size:1024}") int batchSize,
+                             @Value("${credit-simulator.journal.overflow-policy:drop-newest}") JournalOverflowPolicy overflowPolicy,
+                             @Value("${credit-simulator.journal.durability:interval}") JournalDurability durability,
+                             @Value("${credit-simulator.journal.flush-interval:200ms}") Duration flushInterval,
+                             @Value("${credit-simulator.journal.force-interval:1s}") Duration forceInterval,
+                             @Value("${credit-simulator.journal.jdbc.enabled:false}") boolean jdbcEnabled,
+                             @Value("${credit-simulator.journal.jdbc.initialize-schema:true}") boolean jdbcInitializeSchema,
+                             ObjectProvider<DataSource> dataSource,
+                             MeterRegistry registry) throws IOException {
+        this(enabled ? sinks(directory, segmentSize, jdbcEnabled, jdbcInitializeSchema, dataSource) : null,
+                bufferSize, batchSize, overflowPolicy, durability, flushInterval, forceInterval, registry);
+    }
+
+    SimulationJournal(List<JournalSink> sinks, int bufferSize, int batchSize, JournalOverflowPolicy overflowPolicy,
+                      JournalDurability durability, Duration flushInterval, Duration forceInterval, MeterRegistry registry) {
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.durability = durability;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.forceIntervalNanos = forceInterval.toNanos();
+
+        if (sinks == null) {
+            this.buffer = null;
+            this.recorded = null;
+            this.dropped = null;
+            this.writeFailures = null;
+            this.writer = null;
+            return;
+        }
+
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.recorded = entriesCounter(registry, "recorded");
+        this.dropped = entriesCounter(registry, "dropped");
+        this.writeFailures = new Counter[sinks.size()];
+        for (int i = 0; i < sinks.size(); i++) {
+            writeFailures[i] = Counter.builder(WRITE_FAILURES_COUNTER)
+                    .description("Lotes do diário que não puderam ser escritos, por destino")
+                    .tag("sink", sinks.get(i).name())
+                    .register(registry);
+        }
+        Gauge.builder(BUFFER_GAUGE, buffer, ArrayBlockingQueue::size)
+                .description("Entradas do diário aguardando a thread de escrita")
+                .register(registry);
+
+        for (JournalSink sink : sinks) {
+            if (sink instanceof MappedSegmentJournal segments) nextSequence = segments.nextSequence();
+        }
+        this.writer = new Thread(this::drain, "simulation-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Sem diário: usado quando o serviço é criado fora do Spring (testes e benchmarks).
+    public static SimulationJournal disabled() {
+        return new SimulationJournal(null, 0, 0, JournalOverflowPolicy.DROP_NEWEST, JournalDurability.NONE,
+                Duration.ZERO, Duration.ZERO, null);
+    }
+
+    /**
+     * Lê as entradas gravadas nos segmentos de {@code directory}, em ordem (auditoria e reprodução de tráfego).
+     */
+    public static List<JournalEntry> read(Path directory) throws IOException {
+        return MappedSegmentJournal.readAll(directory);
+    }
+
+    /**
+     * Registra uma simulação sem bloquear. Com o buffer cheio, aplica a política de descarte.
+     */
+    public void record(LoadSimulatorRequest request, LoadSimulatorResponse response) {
+        if (buffer == null) return;
+        // Copia os valores agora: requisição e resposta são mutáveis e continuam com quem chamou. A sequência (0 aqui)
+        // é atribuída pela thread de escrita.
+        JournalEntry entry = JournalEntry.of(0, System.currentTimeMillis(), request, response);
+        if (!buffer.offer(entry)) {
+            if (overflowPolicy == JournalOverflowPolicy.DROP_NEWEST) {
+                dropped.increment();
+                return;
+            }
+            while (!buffer.offer(entry)) {
+                if (buffer.poll() != null) dropped.increment();
+            }
+        }
+        recorded.increment();
+    }
+
+    /**
+     * Para a thread de escrita depois de drenar o que ainda está no buffer, e fecha os destinos. Espera no máximo um
+     * {@code flush-interval} além do tempo de escrita: a thread não é interrompida, porque uma interrupção durante
+     * uma operação em {@code FileChannel} fecharia o canal.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (writer == null || !running) return;
+        running = false;
+        writer.join();
+    }
+
+    private void drain() {
+        List<JournalEntry> pending = new ArrayList<>(batchSize);
+        List<JournalEntry> batch = new ArrayList<>(batchSize);
+        long lastForce = System.nanoTime();
+        boolean unforced = false;
+
+        while (running || !buffer.isEmpty()) {
+            JournalEntry first = running ? poll() : buffer.poll();
+            if (first != null) {
+                pending.add(first);
+                buffer.drainTo(pending, batchSize - 1);
+                for (JournalEntry entry : pending) {
+                    JournalEntry journalEntry = entry.withSequence(nextSequence);
+                    if (!MappedSegmentJournal.fits(journalEntry)) {
+                        dropped.increment();
+                        continue;
+                    }
+                    nextSequence++;
+                    batch.add(journalEntry);
+                }
+                if (!batch.isEmpty()) write(batch);
+                pending.clear();
+                batch.clear();
+                unforced = true;
+            }
+
+            long now = System.nanoTime();
+            if (unforced && (durability == JournalDurability.BATCH
+                    || (durability == JournalDurability.INTERVAL && now - lastForce >= forceIntervalNanos))) {
+                force();
+                lastForce = now;
+                unforced = false;
+            }
+        }
+
+        for (JournalSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Não foi possível fechar o destino '{}' do diário: {}", sink.name(), ex.getMessage());
+            }
+        }
+    }
+
+    private JournalEntry poll() {
+        try {
+            return buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            // Trata como close(): drena o restante sem restaurar a interrupção, que fecharia os canais dos segmentos.
+            running = false;
+            return null;
+        }
+    }
+
+    private void write(List<JournalEntry> batch) {
+        for (int i = 0; i < sinks.size(); i++) {
+            try {
+                sinks.get(i).write(batch);
+            } catch (IOException | RuntimeException ex) {
+                writeFailures[i].increment();
+                log.warn("Falha ao escrever {} entradas do diário em '{}': {}", batch.size(), sinks.get(i).name(), ex.getMessage());
+            }
+        }
+    }
+
+    private void force() {
+        for (JournalSink sink : sinks) {
+            try {
+                sink.force();
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Falha ao sincronizar o destino '{}' do diário: {}", sink.name(), ex.getMessage());
+            }
+        }
+    }
+
+    private static List<JournalSink> sinks(Path directory, DataSize segmentSize, boolean jdbcEnabled,
+                                           boolean jdbcInitializeSchema, ObjectProvider<DataSource> dataSource) throws IOException {
+        List<JournalSink> sinks = new ArrayList<>();
+        sinks.add(new MappedSegmentJournal(directory, Math.toIntExact(segmentSize.toBytes())));
+        if (jdbcEnabled) {
+            DataSource available = dataSource.getIfAvailable();
+            if (available == null) throw new IllegalStateException("credit-simulator.journal.jdbc.enabled=true, mas nenhum DataSource foi configurado.");
+            sinks.add(new JdbcJournalSink(available, jdbcInitializeSchema));
+        }
+        return sinks;
+    }
+
+    private static Counter entriesCounter(MeterRegistry registry, String result) {
+        return Counter.builder(ENTRIES_COUNTER)
+                .description("Entradas do diário, por resultado (recorded = aceitas no buffer, dropped = descartadas)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.aleffalves.credit_simulator.limit;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controle de admissão na frente dos endpoints de simulação. Quando o {@link GradientConcurrencyLimit} está cheio a
+ * requisição é recusada na hora com 503 e {@code Retry-After}, em vez de esperar na fila do Tomcat e aumentar a
+ * latência de todas as outras.
+ *
+ * <p>Em requisições assíncronas (lote e cronograma, que escrevem a resposta em outra thread) a vaga só é liberada
+ * quando a resposta termina, via {@link AsyncListener}.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String OVERLOADED = "Servidor sobrecarregado. Tente novamente em instantes.";
+
+    private final GradientConcurrencyLimit limit;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(GradientConcurrencyLimit limit, Duration retryAfter) {
+        this.limit = limit;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(start));
+                async = true;
+            }
+        } finally {
+            if (!async) limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // Mesmo formato dos erros do GlobalExceptionHandler, que não é alcançado porque o filtro roda antes do Spring MVC.
+        byte[] body = ("{\"message\":\"" + OVERLOADED + "\",\"status\":" + HttpStatus.SERVICE_UNAVAILABLE.value()
+                + ",\"timestamp\":\"" + LocalDateTime.now() + "\"}").getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        // onError/onTimeout são seguidos de onComplete; a vaga é liberada uma única vez.
+        private void release() {
+            if (!released.compareAndSet(false, true)) return;
+            limit.release(System.nanoTime() - start);
+        }
+    }
+}
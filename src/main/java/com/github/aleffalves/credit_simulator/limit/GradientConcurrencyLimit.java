@@ -0,0 +1,138 @@
+package com.github.aleffalves.credit_simulator.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência medida, no estilo do algoritmo gradiente (Vegas/Gradient2).
+ *
+ * <p>A cada janela de {@code windowSize} amostras, a latência média da janela (curta) é comparada com uma média móvel
+ * longa, que representa a latência sem fila. O gradiente {@code tolerance × longa / curta}, limitado a [0,5; 1], reduz
+ * o limite quando a latência sobe; a parcela {@code √limite} deixa espaço para crescer enquanto a latência se mantém.
+ * Se o tráfego não chegou a usar metade do limite, ele não cresce: o limite só sobe quando é de fato exercitado.
+ *
+ * <p>{@link #release(long)} roda em toda requisição, inclusive em virtual threads. Por isso o estado da janela é
+ * protegido por um {@link ReentrantLock}, e não por {@code synchronized}, que prenderia a carrier thread.
+ * {@link #tryAcquire()} lê o limite publicado em um campo volatile, sem lock.
+ */
+public class GradientConcurrencyLimit {
+
+    public static final String LIMIT_GAUGE = "credit.simulator.concurrency.limit";
+    public static final String IN_FLIGHT_GAUGE = "credit.simulator.concurrency.inflight";
+    public static final String REJECTED_COUNTER = "credit.simulator.concurrency.rejected";
+
+    // Peso de cada janela na média longa: ~20 janelas para "esquecer" a latência antiga.
+    private static final double LONG_RTT_WEIGHT = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    // Estado da janela; protegido por windowLock em onSample.
+    private final ReentrantLock windowLock = new ReentrantLock();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimit(String endpoint, int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing, int windowSize, MeterRegistry registry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites de concorrência inválidos para '" + endpoint + "': é preciso 1 <= min <= inicial <= max.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+
+        Gauge.builder(LIMIT_GAUGE, this, GradientConcurrencyLimit::getLimit)
+                .description("Limite atual de requisições simultâneas")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get)
+                .description("Requisições em processamento")
+                .tag("endpoint", endpoint)
+                .register(registry);
+        this.rejected = Counter.builder(REJECTED_COUNTER)
+                .description("Requisições recusadas com 503 por excederem o limite")
+                .tag("endpoint", endpoint)
+                .register(registry);
+    }
+
+    /**
+     * Reserva uma vaga. Se o limite já foi atingido, conta a rejeição e retorna {@code false} sem esperar.
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Libera a vaga reservada em {@link #tryAcquire()} e registra a latência da requisição.
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void onSample(long rttNanos, int inFlightAtRelease) {
+        windowLock.lock();
+        try {
+            addSample(rttNanos, inFlightAtRelease);
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    private void addSample(long rttNanos, int inFlightAtRelease) {
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+        if (++windowSamples < windowSize) return;
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) * LONG_RTT_WEIGHT;
+        // Depois de uma sobrecarga longa a média longa fica inflada; deixa ela cair mais rápido em direção à curta.
+        if (longRttNanos / shortRtt > 2) longRttNanos *= 0.95;
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        if (target > current && maxInFlight < current / 2) return;
+
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
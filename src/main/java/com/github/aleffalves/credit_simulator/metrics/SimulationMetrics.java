@@ -0,0 +1,127 @@
+package com.github.aleffalves.credit_simulator.metrics;
+
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.RateTableReloadedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas do caminho de simulação. Todos os medidores são registrados uma única vez e guardados em campos/arrays,
+ * de modo que cada simulação custa apenas algumas chamadas a {@code System.nanoTime()} e incrementos, sem busca
+ * por tags nem alocação. Os contadores por faixa acompanham a tabela de taxas: são registrados de novo a cada
+ * recarga, uma série por faixa existente.
+ */
+@Component
+public class SimulationMetrics {
+
+    public static final String STAGE_TIMER = "credit.simulator.simulation.stage";
+    public static final String RATE_TIER_COUNTER = "credit.simulator.simulation.rate.tier";
+    public static final String TERM_BUCKET_COUNTER = "credit.simulator.simulation.term.range";
+    public static final String ERROR_COUNTER = "credit.simulator.errors";
+
+    private static final int[] TERM_BUCKET_LIMITS = {12, 24, 36, 60, 120, 240, 480};
+    private static final String[] TERM_BUCKET_LABELS = {"1-12", "13-24", "25-36", "37-60", "61-120", "121-240", "241-480", "481+"};
+
+    private final MeterRegistry registry;
+    private final Timer ageStage;
+    private final Timer rateStage;
+    private final Timer installmentStage;
+    private final Timer responseStage;
+    private volatile Counter[] tierCounters = new Counter[0];
+    private final Counter[] termBucketCounters;
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SimulationMetrics(MeterRegistry registry, RateTable rateTable) {
+        this.registry = registry;
+        this.ageStage = stageTimer("age");
+        this.rateStage = stageTimer("rate");
+        this.installmentStage = stageTimer("installment");
+        this.responseStage = stageTimer("response");
+
+        registerTierCounters(rateTable.current().size());
+
+        this.termBucketCounters = new Counter[TERM_BUCKET_LABELS.length];
+        for (int i = 0; i < TERM_BUCKET_LABELS.length; i++) {
+            termBucketCounters[i] = Counter.builder(TERM_BUCKET_COUNTER)
+                    .description("Simulações por faixa de prazo em meses")
+                    .tag("range", TERM_BUCKET_LABELS[i])
+                    .register(registry);
+        }
+    }
+
+    // Sem registry exportado: usado quando o serviço é criado fora do Spring (testes e benchmarks).
+    public static SimulationMetrics noop() {
+        return new SimulationMetrics(new CompositeMeterRegistry(), RateTable.defaults());
+    }
+
+    @EventListener
+    public void onRateTableReloaded(RateTableReloadedEvent event) {
+        registerTierCounters(((RateTable) event.getSource()).current().size());
+    }
+
+    public void recordRateResolution(int rateTier, int paymentTermMonths, long start, long ageResolved, long rateResolved) {
+        ageStage.record(ageResolved - start, TimeUnit.NANOSECONDS);
+        rateStage.record(rateResolved - ageResolved, TimeUnit.NANOSECONDS);
+
+        Counter[] tiers = tierCounters;
+        if (rateTier >= 0 && rateTier < tiers.length) tiers[rateTier].increment();
+        termBucketCounters[termBucket(paymentTermMonths)].increment();
+    }
+
+    // Só é chamado quando o resultado é de fato calculado (não vem do cache).
+    public void recordCalculation(long start, long installmentCalculated, long end) {
+        installmentStage.record(installmentCalculated - start, TimeUnit.NANOSECONDS);
+        responseStage.record(end - installmentCalculated, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordError(Throwable ex) {
+        Counter counter = errorCounters.get(ex.getClass());
+        if (counter == null) {
+            counter = errorCounters.computeIfAbsent(ex.getClass(), type -> Counter.builder(ERROR_COUNTER)
+                    .description("Erros tratados pelo GlobalExceptionHandler, por tipo de exceção")
+                    .tag("exception", type.getSimpleName())
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    // O registry devolve o contador já existente para a mesma faixa; os das faixas que deixaram de existir saem dele.
+    private synchronized void registerTierCounters(int tiers) {
+        Counter[] previous = tierCounters;
+        Counter[] counters = new Counter[tiers];
+        for (int i = 0; i < tiers; i++) {
+            counters[i] = Counter.builder(RATE_TIER_COUNTER)
+                    .description("Simulações por faixa etária/taxa (0 = faixa mais jovem)")
+                    .tag("tier", String.valueOf(i))
+                    .register(registry);
+        }
+        for (int i = tiers; i < previous.length; i++) {
+            registry.remove(previous[i]);
+        }
+        tierCounters = counters;
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Tempo de cada etapa da simulação")
+                .tag("stage", stage)
+                .register(registry);
+    }
+
+    private static int termBucket(int paymentTermMonths) {
+        for (int i = 0; i < TERM_BUCKET_LIMITS.length; i++) {
+            if (paymentTermMonths <= TERM_BUCKET_LIMITS[i]) return i;
+        }
+        return TERM_BUCKET_LIMITS.length;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.aleffalves.credit_simulator.offline;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Executa a {@link OfflineBulkSimulation} quando {@code credit-simulator.offline.input} está definida, venha ela da
+ * linha de comando, de variável de ambiente ({@code CREDIT_SIMULATOR_OFFLINE_INPUT}), de {@code application.properties}
+ * ou de {@code SPRING_APPLICATION_JSON}. Nesse modo o {@link HttpPortDisabler}, registrado pelo {@code main}, fecha a
+ * porta HTTP ({@code server.port=-1}) e o {@code main} encerra o processo ao terminar; uma falha faz a inicialização
+ * falhar e o processo sair com código diferente de zero.
+ *
+ * <p>O bean existe sempre (sem {@code @ConditionalOnProperty}) e o contexto continua sendo servlet: com Spring AOT as
+ * condições e o tipo da aplicação são fixados no build, e o modo offline precisa continuar disponível no jar processado.
+ */
+@Component
+public class OfflineBulkRunner implements ApplicationRunner {
+
+    public static final String INPUT_PROPERTY = "credit-simulator.offline.input";
+
+    @Autowired
+    private OfflineBulkSimulation offlineBulkSimulation;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${" + INPUT_PROPERTY + ":}")
+    private String input;
+
+    @Value("${credit-simulator.offline.output:}")
+    private String output;
+
+    /**
+     * Único ponto que decide se a aplicação está em modo offline, a partir da propriedade já resolvida.
+     */
+    public static boolean isRequested(Environment environment) {
+        return StringUtils.hasText(environment.getProperty(INPUT_PROPERTY));
+    }
+
+    /**
+     * Fecha a porta HTTP quando o modo offline foi pedido. Roda depois que o ambiente está completo (linha de comando,
+     * variáveis de ambiente, arquivos de configuração), e antes de o servidor ser criado.
+     */
+    public static class HttpPortDisabler implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            disableHttpPort(event.getEnvironment());
+        }
+
+        // Primeira fonte de propriedades, para prevalecer sobre um server.port informado junto.
+        static void disableHttpPort(ConfigurableEnvironment environment) {
+            if (isRequested(environment)) {
+                environment.getPropertySources().addFirst(new MapPropertySource("offlineBulkSimulation", Map.of("server.port", -1)));
+            }
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!isRequested(environment)) return;
+        // Sem o HttpPortDisabler (por exemplo, outro main ou um teste) a porta estaria aberta: o job não roda num servidor vivo.
+        if (environment.getProperty("server.port", Integer.class, 8080) >= 0) {
+            throw new IllegalStateException("A simulação offline exige server.port=-1; inicie pela CreditSimulatorApplication.");
+        }
+        Path inputFile = Path.of(input);
+        offlineBulkSimulation.run(inputFile, StringUtils.hasText(output) ? Path.of(output) : defaultOutput(inputFile));
+    }
+
+    // clientes.csv -> clientes.result.csv, ao lado da entrada.
+    static Path defaultOutput(Path input) {
+        String name = input.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return input.resolveSibling(base + ".result" + OfflineFormat.of(input).extension());
+    }
+}
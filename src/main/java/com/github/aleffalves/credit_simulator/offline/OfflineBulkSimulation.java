@@ -0,0 +1,410 @@
+package com.github.aleffalves.credit_simulator.offline;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulação em lote fora do servidor HTTP, para reprocessar a base inteira a partir de um arquivo CSV
+ * ({@code loanAmount,dateOfBirth,paymentTermMonths}, com cabeçalho opcional) ou NDJSON.
+ *
+ * <p>O arquivo é dividido em faixas de até {@code credit-simulator.offline.range-size} bytes, ajustadas para terminar
+ * em fim de linha. Cada faixa é mapeada em memória, lida e simulada por uma thread do pool
+ * ({@code credit-simulator.offline.threads}) e escrita em um arquivo de parte, renomeado atomicamente ao terminar. No
+ * fim, as partes são concatenadas na ordem das faixas, então a saída segue a ordem da entrada. Cada item é avaliado
+ * como no lote HTTP ({@link LoadSimulatorBatchService#evaluate}), com erro por linha em vez de interromper o arquivo.
+ *
+ * <p>As partes concluídas ficam em {@code <saída>.parts} até o fim: se o processo cair, a próxima execução com a
+ * mesma entrada (mesmo tamanho, data de modificação e tamanho de faixa, conferidos no manifesto) processa só as faixas
+ * que faltam.
+ */
+@Component
+public class OfflineBulkSimulation {
+
+    static final String PARTS_SUFFIX = ".parts";
+    static final String MANIFEST = "manifest";
+    static final String CSV_HEADER = "index,monthlyInstallment,totalAmountPayable,totalInterestPaid,error";
+
+    private static final Logger log = LoggerFactory.getLogger(OfflineBulkSimulation.class);
+    private static final int OUTPUT_BUFFER = 1 << 16;
+
+    @Autowired
+    private LoadSimulatorBatchService loadSimulatorBatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${credit-simulator.offline.threads:0}")
+    private int threads;
+
+    @Value("${credit-simulator.offline.range-size:64MB}")
+    private DataSize rangeSize = DataSize.ofMegabytes(64);
+
+    @Value("${credit-simulator.offline.resume:true}")
+    private boolean resume = true;
+
+    public Summary run(Path input, Path output) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        OfflineFormat format = OfflineFormat.of(input);
+        Path parts = output.resolveSibling(output.getFileName() + PARTS_SUFFIX);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, task -> {
+            Thread thread = new Thread(task, "offline-simulation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            List<Range> ranges = plan(channel, format, executor);
+            long totalRows = ranges.isEmpty() ? 0 : ranges.get(ranges.size() - 1).firstRow + ranges.get(ranges.size() - 1).rows;
+            String manifest = "input=" + input.toAbsolutePath() + "\nsize=" + channel.size()
+                    + "\nlastModified=" + Files.getLastModifiedTime(input).toMillis()
+                    + "\nrangeSize=" + rangeSize.toBytes() + "\nformat=" + format + "\n";
+            boolean resumed = prepare(parts, manifest);
+
+            List<Range> pending = new ArrayList<>();
+            for (Range range : ranges) {
+                if (!(resumed && Files.exists(part(parts, range)))) pending.add(range);
+            }
+            if (resumed) log.info("Retomando {}: {} de {} faixas já concluídas", input, ranges.size() - pending.size(), ranges.size());
+
+            AtomicLong simulated = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+            AtomicInteger completed = new AtomicInteger(ranges.size() - pending.size());
+            List<Future<?>> futures = new ArrayList<>();
+            for (Range range : pending) {
+                futures.add(executor.submit(() -> {
+                    process(channel, format, range, parts, errors);
+                    long rows = simulated.addAndGet(range.rows);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    log.info("Faixa {}/{} concluída: {} linhas simuladas, {} linhas/s",
+                            completed.incrementAndGet(), ranges.size(), rows, Math.round(rows / seconds));
+                    return null;
+                }));
+            }
+            await(futures);
+
+            merge(parts, ranges, output, format);
+            FileSystemUtils.deleteRecursively(parts);
+
+            Summary summary = new Summary(totalRows, simulated.get(), errors.get(), ranges.size(),
+                    ranges.size() - pending.size(), System.nanoTime() - start);
+            log.info("Simulação offline concluída: {} linhas ({} simuladas nesta execução, {} com erro) em {} s, {} linhas/s. Resultado em {}",
+                    summary.totalRows(), summary.simulatedRows(), summary.errors(),
+                    String.format("%.1f", summary.elapsedNanos() / 1e9), Math.round(summary.rowsPerSecond()), output);
+            return summary;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Divide o arquivo em faixas terminadas em fim de linha e conta, em paralelo, as linhas de dados de cada uma, para
+     * que cada faixa saiba o índice da sua primeira linha.
+     */
+    private List<Range> plan(FileChannel channel, OfflineFormat format, ExecutorService executor)
+            throws IOException, InterruptedException {
+        long size = channel.size();
+        // Uma faixa é um único mapeamento, limitado a 2 GB; 1 GB deixa folga para o ajuste até o fim da linha.
+        long maxRange = Math.min(1L << 30, Math.max(1, rangeSize.toBytes()));
+        List<long[]> bounds = new ArrayList<>();
+        long from = 0;
+        while (from < size) {
+            long to = Math.min(size, from + maxRange);
+            if (to < size) to = nextLineStart(channel, to, size);
+            bounds.add(new long[]{from, to});
+            from = to;
+        }
+
+        List<Future<int[]>> counts = new ArrayList<>();
+        for (long[] bound : bounds) {
+            counts.add(executor.submit(() -> countRows(channel, format, bound[0], bound[1])));
+        }
+        await(counts);
+
+        List<Range> ranges = new ArrayList<>(bounds.size());
+        long firstRow = 0;
+        for (int i = 0; i < bounds.size(); i++) {
+            int rows;
+            try {
+                rows = counts.get(i).get()[0];
+            } catch (ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+            ranges.add(new Range(i, bounds.get(i)[0], bounds.get(i)[1], firstRow, rows));
+            firstRow += rows;
+        }
+        return ranges;
+    }
+
+    // Primeira posição depois do próximo '\n' a partir de position (ou o fim do arquivo).
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        long window = 4096;
+        while (position < size) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') return position + i + 1;
+            }
+            position += buffer.limit();
+        }
+        return size;
+    }
+
+    private int[] countRows(FileChannel channel, OfflineFormat format, long from, long to) throws IOException {
+        int[] rows = new int[1];
+        forEachLine(channel, format, from, to, (line, length) -> rows[0]++);
+        return rows;
+    }
+
+    private void process(FileChannel channel, OfflineFormat format, Range range, Path parts, AtomicLong errors) throws IOException {
+        Path part = part(parts, range);
+        Path temporary = part.resolveSibling(part.getFileName() + ".tmp");
+        long[] index = {range.firstRow};
+        long[] rangeErrors = new long[1];
+
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(out), OUTPUT_BUFFER);
+            ResultWriter writer = format == OfflineFormat.CSV ? new CsvResultWriter(stream) : new NdjsonResultWriter(stream, objectMapper);
+            forEachLine(channel, format, range.from, range.to, (line, length) -> {
+                LoadSimulatorBatchResult result = evaluate(format, index[0]++, line, length);
+                if (result.getError() != null) rangeErrors[0]++;
+                writer.write(result);
+            });
+            writer.flush();
+            out.force(false);
+        }
+        Files.move(temporary, part, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        errors.addAndGet(rangeErrors[0]);
+    }
+
+    private LoadSimulatorBatchResult evaluate(OfflineFormat format, long index, byte[] line, int length) throws IOException {
+        if (format == OfflineFormat.NDJSON) {
+            JsonNode item;
+            try {
+                item = objectMapper.readTree(line, 0, length);
+            } catch (JsonProcessingException ex) {
+                return error(index, ex.getOriginalMessage());
+            }
+            return loadSimulatorBatchService.evaluate(index, item);
+        }
+
+        String[] fields = new String(line, 0, length, StandardCharsets.US_ASCII).split(",", -1);
+        if (fields.length != 3) return error(index, "Linha inválida: esperado loanAmount,dateOfBirth,paymentTermMonths.");
+        LoadSimulatorRequest request;
+        try {
+            request = new LoadSimulatorRequest(
+                    fields[0].isBlank() ? null : new BigDecimal(fields[0].trim()),
+                    fields[1].isBlank() ? null : LocalDate.parse(fields[1].trim()),
+                    fields[2].isBlank() ? null : Integer.valueOf(fields[2].trim()));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return error(index, "Linha inválida: " + ex.getMessage());
+        }
+        return loadSimulatorBatchService.evaluate(index, request);
+    }
+
+    /**
+     * Percorre as linhas de dados de [from, to): ignora linhas em branco, '\r' final e, no CSV, o cabeçalho (uma
+     * primeira linha que não começa por número).
+     */
+    private static void forEachLine(FileChannel channel, OfflineFormat format, long from, long to, LineConsumer consumer) throws IOException {
+        if (to <= from) return;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        byte[] line = new byte[256];
+        boolean headerCandidate = from == 0 && format == OfflineFormat.CSV;
+        int limit = buffer.limit();
+        int start = 0;
+        while (start < limit) {
+            int end = start;
+            while (end < limit && buffer.get(end) != '\n') end++;
+            int length = end - start;
+            if (length > 0 && buffer.get(end - 1) == '\r') length--;
+
+            if (length > 0) {
+                if (length > line.length) line = new byte[Math.max(length, line.length * 2)];
+                buffer.get(start, line, 0, length);
+                boolean header = headerCandidate && !isNumeric(line[0]);
+                headerCandidate = false;
+                if (!header) consumer.accept(line, length);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static boolean isNumeric(byte first) {
+        return (first >= '0' && first <= '9') || first == '-' || first == '+' || first == '.' || first == ',';
+    }
+
+    /**
+     * Prepara o diretório de partes. Retorna {@code true} se as partes existentes são desta mesma entrada e podem ser
+     * reaproveitadas.
+     */
+    private boolean prepare(Path parts, String manifest) throws IOException {
+        Path manifestFile = parts.resolve(MANIFEST);
+        if (resume && Files.exists(manifestFile) && Files.readString(manifestFile).equals(manifest)) return true;
+
+        FileSystemUtils.deleteRecursively(parts);
+        Files.createDirectories(parts);
+        Files.writeString(manifestFile, manifest);
+        return false;
+    }
+
+    private static void merge(Path parts, List<Range> ranges, Path output, OfflineFormat format) throws IOException {
+        Path temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == OfflineFormat.CSV) {
+                out.write(ByteBuffer.wrap((CSV_HEADER + "\n").getBytes(StandardCharsets.US_ASCII)));
+            }
+            for (Range range : ranges) {
+                try (FileChannel in = FileChannel.open(part(parts, range), StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = in.size();
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+            out.force(false);
+        }
+        Files.move(temporary, output, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Path part(Path parts, Range range) {
+        return parts.resolve(String.format("part-%08d", range.number));
+    }
+
+    private static void await(List<? extends Future<?>> futures) throws IOException, InterruptedException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof IOException io) throw io;
+            throw new IOException("Falha na simulação offline: " + ex.getCause(), ex.getCause());
+        }
+    }
+
+    private static LoadSimulatorBatchResult error(long index, String message) {
+        return LoadSimulatorBatchResult.builder()
+                .index(index)
+                .error(message)
+                .build();
+    }
+
+    /**
+     * Resultado de uma execução. {@code simulatedRows} conta só as linhas processadas nesta execução (sem as faixas
+     * retomadas), e é a base de {@link #rowsPerSecond()}.
+     */
+    public record Summary(long totalRows, long simulatedRows, long errors, int ranges, int resumedRanges, long elapsedNanos) {
+        public double rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : simulatedRows * 1e9 / elapsedNanos;
+        }
+    }
+
+    private record Range(int number, long from, long to, long firstRow, int rows) {
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(byte[] line, int length) throws IOException;
+    }
+
+    private interface ResultWriter {
+        void write(LoadSimulatorBatchResult result) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvResultWriter implements ResultWriter {
+        private final OutputStream output;
+        private final StringBuilder row = new StringBuilder(128);
+
+        CsvResultWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(LoadSimulatorBatchResult result) throws IOException {
+            row.setLength(0);
+            row.append(result.getIndex()).append(',');
+            LoadSimulatorResponse response = result.getResult();
+            if (response != null) {
+                row.append(response.getMonthlyInstallment().toPlainString()).append(',')
+                        .append(response.getTotalAmountPayable().toPlainString()).append(',')
+                        .append(response.getTotalInterestPaid().toPlainString()).append(',');
+            } else {
+                row.append(",,,\"").append(result.getError().replace("\"", "\"\"")).append('"');
+            }
+            row.append('\n');
+            output.write(row.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+    }
+
+    private static final class NdjsonResultWriter implements ResultWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        NdjsonResultWriter(OutputStream output, ObjectMapper mapper) throws IOException {
+            this.generator = mapper.createGenerator(output);
+            this.generator.setRootValueSeparator(null);
+            this.writer = mapper.writerFor(LoadSimulatorBatchResult.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(LoadSimulatorBatchResult result) throws IOException {
+            writer.writeValue(generator, result);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
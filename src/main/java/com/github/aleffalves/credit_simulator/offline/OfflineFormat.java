@@ -0,0 +1,23 @@
+package com.github.aleffalves.credit_simulator.offline;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formato do arquivo da simulação offline, escolhido pela extensão. A saída usa o mesmo formato da entrada.
+ */
+public enum OfflineFormat {
+    CSV,
+    NDJSON;
+
+    public static OfflineFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return NDJSON;
+        throw new IllegalArgumentException("Formato não suportado: " + file + ". Use um arquivo .csv, .ndjson ou .jsonl.");
+    }
+
+    public String extension() {
+        return this == CSV ? ".csv" : ".ndjson";
+    }
+}
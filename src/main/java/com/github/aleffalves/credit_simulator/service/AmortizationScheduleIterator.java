@@ -0,0 +1,84 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.AmortizationScheduleRow;
+import com.github.aleffalves.credit_simulator.domain.AmortizationSystem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Gera as linhas do cronograma sob demanda, mantendo apenas o saldo e o mês corrente em centavos.
+ */
+final class AmortizationScheduleIterator implements Iterator<AmortizationScheduleRow> {
+
+    /**
+     * Maior empréstimo aceito, em centavos. Com taxas mensais abaixo de 100%, juros e amortização de uma parcela
+     * somam menos que o dobro do saldo, que então cabe em um {@code long}.
+     */
+    static final long MAX_LOAN_CENTS = Long.MAX_VALUE / 4;
+
+    private static final long RATE_SCALE = 10_000;
+
+    private final AmortizationSystem system;
+    private final long monthlyRateE4;
+    private final int term;
+    private final long installmentCents;
+    private final long amortizationCents;
+
+    private long balanceCents;
+    private int month;
+
+    AmortizationScheduleIterator(AmortizationSystem system, long loanCents, long monthlyRateE4, int term, long priceInstallmentCents) {
+        this.system = system;
+        this.monthlyRateE4 = monthlyRateE4;
+        this.term = term;
+        this.installmentCents = priceInstallmentCents;
+        this.amortizationCents = divideHalfEven(loanCents, term);
+        this.balanceCents = loanCents;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return month < term;
+    }
+
+    @Override
+    public AmortizationScheduleRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        month++;
+
+        long interest = interestCents(balanceCents, monthlyRateE4);
+        long amortization = system == AmortizationSystem.PRICE ? installmentCents - interest : amortizationCents;
+        // A última parcela absorve as diferenças de arredondamento e zera o saldo.
+        if (month == term || amortization > balanceCents) amortization = balanceCents;
+        balanceCents -= amortization;
+
+        return AmortizationScheduleRow.builder()
+                .month(month)
+                .installment(BigDecimal.valueOf(amortization + interest, 2))
+                .interest(BigDecimal.valueOf(interest, 2))
+                .amortization(BigDecimal.valueOf(amortization, 2))
+                .balance(BigDecimal.valueOf(balanceCents, 2))
+                .build();
+    }
+
+    static long interestCents(long balanceCents, long monthlyRateE4) {
+        try {
+            return divideHalfEven(Math.multiplyExact(balanceCents, monthlyRateE4), RATE_SCALE);
+        } catch (ArithmeticException ex) {
+            // Saldos muito altos: saldo × taxa passa de 64 bits; mesmo arredondamento, em BigDecimal.
+            return BigDecimal.valueOf(balanceCents).multiply(BigDecimal.valueOf(monthlyRateE4))
+                    .divide(BigDecimal.valueOf(RATE_SCALE), 0, RoundingMode.HALF_EVEN)
+                    .longValueExact();
+        }
+    }
+
+    static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) == 1)) quotient++;
+        return quotient;
+    }
+}
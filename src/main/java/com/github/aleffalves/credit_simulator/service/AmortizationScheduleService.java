@@ -0,0 +1,80 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.domain.AmortizationScheduleRow;
+import com.github.aleffalves.credit_simulator.domain.AmortizationSystem;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Service
+public class AmortizationScheduleService {
+
+    @Autowired
+    private LoadSimulatorService loadSimulatorService;
+
+    @Autowired
+    private RateTable rateTable;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Valida a requisição e resolve a taxa imediatamente, mas as linhas só são calculadas à medida que o
+     * {@link Stream} é consumido.
+     */
+    public Stream<AmortizationScheduleRow> schedule(LoadSimulatorRequest request, AmortizationSystem system) {
+        RateTable.Snapshot rates = rateTable.current();
+        int rateTier = rates.tierOf(request.getDateOfBirth());
+        BigDecimal monthlyInterestRate = rates.monthlyRate(rateTier);
+        int term = request.getPaymentTermMonths();
+
+        // Na Tabela Price a parcela é a mesma da simulação; também valida os argumentos para os dois sistemas.
+        BigDecimal installment = loadSimulatorService.calculateInstallment(request.getLoanAmount(), rateTier, term);
+        BigDecimal loanCents = request.getLoanAmount().setScale(2, RoundingMode.HALF_EVEN).movePointRight(2);
+        if (loanCents.compareTo(BigDecimal.valueOf(AmortizationScheduleIterator.MAX_LOAN_CENTS)) > 0) {
+            throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE_FOR_SCHEDULE);
+        }
+
+        AmortizationScheduleIterator rows = new AmortizationScheduleIterator(
+                system,
+                loanCents.longValueExact(),
+                monthlyInterestRate.movePointRight(4).longValueExact(),
+                term,
+                installment.unscaledValue().longValueExact());
+
+        return StreamSupport.stream(Spliterators.spliterator(rows, term,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    public void write(Stream<AmortizationScheduleRow> rows, OutputStream output) throws IOException {
+        write(rows, output, objectMapper);
+    }
+
+    public void write(Stream<AmortizationScheduleRow> rows, OutputStream output, ObjectMapper mapper) throws IOException {
+        ObjectWriter writer = mapper.writerFor(AmortizationScheduleRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (rows; JsonGenerator generator = mapper.createGenerator(output)) {
+            generator.writeStartArray();
+            for (Iterator<AmortizationScheduleRow> it = rows.iterator(); it.hasNext(); ) {
+                writer.writeValue(generator, it.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Tabela imutável com o fator da Tabela Price, {@code r / (1 - (1 + r)^-n)}, pré-calculado para cada taxa mensal
+ * configurada e para prazos de 1 a {@link #MAX_TERM} meses: a parcela é uma consulta e uma multiplicação,
+ * {@code pv × fator}. Fora da tabela o fator é calculado na hora com a mesma expressão, então o resultado não depende
+ * de a taxa ou o prazo estarem tabelados.
+ *
+ * <p>Quem já conhece a faixa (o snapshot resolve a faixa uma vez por requisição) usa {@link #factor(int, int)};
+ * {@link #factor(double, int)} procura a taxa na tabela e serve para quem só tem a taxa.
+ */
+public final class AnnuityFactorTable {
+
+    public static final int MAX_TERM = 480;
+
+    private final double[] rates;
+    private final double[][] factors;
+
+    public AnnuityFactorTable(BigDecimal... monthlyRates) {
+        this.rates = new double[monthlyRates.length];
+        this.factors = new double[monthlyRates.length][MAX_TERM + 1];
+        for (int tier = 0; tier < monthlyRates.length; tier++) {
+            double r = monthlyRates[tier].doubleValue();
+            rates[tier] = r;
+            for (int n = 1; n <= MAX_TERM; n++) {
+                factors[tier][n] = computeFactor(r, n);
+            }
+        }
+    }
+
+    public int tierOf(double monthlyRate) {
+        for (int tier = 0; tier < rates.length; tier++) {
+            if (rates[tier] == monthlyRate) return tier;
+        }
+        return -1;
+    }
+
+    /**
+     * Fator da faixa {@code tier}, que precisa existir na tabela.
+     */
+    public double factor(int tier, int n) {
+        if (n <= MAX_TERM) return factors[tier][n];
+        return computeFactor(rates[tier], n);
+    }
+
+    /**
+     * Fator de uma taxa qualquer: da tabela se a taxa for de uma faixa, senão calculado na hora.
+     */
+    public double factor(double monthlyRate, int n) {
+        int tier = tierOf(monthlyRate);
+        if (tier >= 0) return factor(tier, n);
+        return computeFactor(monthlyRate, n);
+    }
+
+    /**
+     * Fator da faixa {@code tier} ou, com {@code tier} negativo, da taxa {@code monthlyRate} calculado na hora.
+     */
+    public double factor(int tier, double monthlyRate, int n) {
+        if (tier >= 0 && n <= MAX_TERM) return factors[tier][n];
+        return computeFactor(monthlyRate, n);
+    }
+
+    public int size() {
+        return rates.length;
+    }
+
+    public double rate(int tier) {
+        return rates[tier];
+    }
+
+    static double computeFactor(double r, int n) {
+        return r / (1 - Math.pow(1 + r, -n));
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cálculo em lote da Tabela Price sobre arrays primitivos. Os fatores vêm da {@link AnnuityFactorTable} e a
+ * multiplicação roda no kernel vetorial quando a Vector API está disponível; o arredondamento é o mesmo de
+ * {@link FixedPointSimulationEngine#roundHalfEvenCents(double)}, portanto cada parcela é idêntica à do caminho de
+ * uma única simulação.
+ */
+public final class BulkInstallmentCalculator {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInstallmentCalculator.class);
+
+    private static final int BLOCK = 1024;
+
+    // Compilado em uma execução separada do javac, com o módulo da incubadora; só é referenciado por nome.
+    private static final String VECTOR_KERNEL = "com.github.aleffalves.credit_simulator.service.VectorInstallmentKernel";
+
+    private static final InstallmentKernel KERNEL = selectKernel();
+
+    private BulkInstallmentCalculator() {
+    }
+
+    /**
+     * @param principals        valores dos empréstimos, abaixo de {@link FixedPointSimulationEngine#MAX_CENTS} centavos
+     * @param rates             taxas mensais
+     * @param terms             prazos em meses
+     * @param installmentCents  saída: parcelas em centavos
+     */
+    public static void calculate(double[] principals, double[] rates, int[] terms, AnnuityFactorTable annuityFactorTable,
+                                 long[] installmentCents) {
+        calculate(principals, rates, null, terms, annuityFactorTable, installmentCents);
+    }
+
+    /**
+     * Como {@link #calculate(double[], double[], int[], AnnuityFactorTable, long[])}, para quem já resolveu a faixa de
+     * cada cenário: com {@code tiers[i] >= 0} o fator vem direto da tabela, sem procurar a taxa; com {@code -1}, é
+     * calculado a partir de {@code rates[i]}. Com {@code tiers} nulo, a faixa é procurada pela taxa.
+     */
+    public static void calculate(double[] principals, double[] rates, int[] tiers, int[] terms,
+                                 AnnuityFactorTable annuityFactorTable, long[] installmentCents) {
+        int length = principals.length;
+        if (rates.length != length || terms.length != length || installmentCents.length < length
+                || (tiers != null && tiers.length != length)) {
+            throw new IllegalArgumentException("Os arrays de entrada devem ter o mesmo tamanho.");
+        }
+
+        double[] factors = new double[Math.min(BLOCK, length)];
+        double[] installments = new double[factors.length];
+        double[] blockPrincipals = new double[factors.length];
+
+        for (int offset = 0; offset < length; offset += BLOCK) {
+            int size = Math.min(BLOCK, length - offset);
+            for (int i = 0; i < size; i++) {
+                double pv = principals[offset + i];
+                double r = rates[offset + i];
+                int n = terms[offset + i];
+                if (pv <= 0 || r <= 0 || n <= 0) throw new SimulationValidationException(SimulationValidationException.INVALID_ARGUMENTS);
+                if (pv * 100 >= FixedPointSimulationEngine.MAX_CENTS) {
+                    throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE);
+                }
+                blockPrincipals[i] = pv;
+                int tier = tiers == null ? annuityFactorTable.tierOf(r) : tiers[offset + i];
+                factors[i] = annuityFactorTable.factor(tier, r, n);
+            }
+
+            KERNEL.installments(blockPrincipals, factors, installments, size);
+
+            for (int i = 0; i < size; i++) {
+                installmentCents[offset + i] = FixedPointSimulationEngine.roundHalfEvenCents(installments[i]);
+            }
+        }
+    }
+
+    public static String kernelName() {
+        return KERNEL.name();
+    }
+
+    static InstallmentKernel selectKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            InstallmentKernel kernel = vectorKernel();
+            if (kernel != null) {
+                log.info("Cálculo em lote de parcelas usando a Vector API ({})", kernel.name());
+                return kernel;
+            }
+        }
+        return new ScalarInstallmentKernel();
+    }
+
+    /**
+     * Kernel da Vector API, ou {@code null} se ele não pode ser carregado (módulo {@code jdk.incubator.vector} ausente).
+     */
+    static InstallmentKernel vectorKernel() {
+        try {
+            return (InstallmentKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            log.warn("Vector API indisponível, usando o kernel escalar: {}", ex.toString());
+            return null;
+        }
+    }
+}
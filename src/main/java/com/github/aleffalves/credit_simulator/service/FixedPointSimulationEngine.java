@@ -0,0 +1,90 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Motor de cálculo em centavos ({@code long}). Produz exatamente os mesmos valores do cálculo com {@link BigDecimal},
+ * mas só cria objetos ao montar o {@link LoadSimulatorResponse}.
+ */
+public final class FixedPointSimulationEngine {
+
+    // Valores acima disso não têm representação exata em double com duas casas decimais.
+    public static final long MAX_CENTS = 1L << 53;
+
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final BigDecimal MAX_AMOUNT_CENTS = BigDecimal.valueOf(MAX_CENTS);
+
+    private final AnnuityFactorTable annuityFactorTable;
+
+    public FixedPointSimulationEngine(AnnuityFactorTable annuityFactorTable) {
+        this.annuityFactorTable = annuityFactorTable;
+    }
+
+    /**
+     * Monta a resposta a partir dos valores em centavos. Retorna {@code null} se o total estourar {@code long},
+     * para que o chamador use o cálculo com {@link BigDecimal}.
+     */
+    public LoadSimulatorResponse toResponse(long pvCents, long installmentCents, int n) {
+        if (installmentCents > Long.MAX_VALUE / n) return null;
+        long totalCents = installmentCents * n;
+        long interestCents = totalCents - pvCents;
+
+        return LoadSimulatorResponse.builder()
+                .monthlyInstallment(BigDecimal.valueOf(installmentCents, 2))
+                .totalAmountPayable(BigDecimal.valueOf(totalCents, 2))
+                .totalInterestPaid(BigDecimal.valueOf(interestCents, 2))
+                .build();
+    }
+
+    public long installmentCents(long pvCents, int rateTier, int n) {
+        if (pvCents <= 0 || annuityFactorTable.rate(rateTier) <= 0 || n <= 0) {
+            throw new SimulationValidationException(SimulationValidationException.INVALID_ARGUMENTS);
+        }
+
+        // Mesma operação em double do cálculo com BigDecimal: pv × fator
+        return roundHalfEvenCents(pvCents / 100.0 * annuityFactorTable.factor(rateTier, n));
+    }
+
+    /**
+     * Equivalente a {@code BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN)} em centavos.
+     * O arredondamento só é ambíguo quando a parte fracionária fica a poucos ulps de meio centavo; nesse caso raro
+     * a decisão é delegada ao próprio {@link BigDecimal}.
+     */
+    public static long roundHalfEvenCents(double value) {
+        double scaled = value * 100;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) <= 8 * Math.ulp(scaled) || Math.abs(scaled) >= MAX_CENTS) {
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    /**
+     * Indica se o valor fica abaixo de {@link #MAX_CENTS} centavos. Acima disso os centavos deixam de ser exatos em
+     * double e os cálculos em lote não podem ser usados.
+     */
+    public static boolean fitsInCents(BigDecimal amount) {
+        return amount.movePointRight(2).compareTo(MAX_AMOUNT_CENTS) < 0;
+    }
+
+    /**
+     * Converte o valor para centavos ou retorna {@link #NOT_REPRESENTABLE} se ele tiver mais de duas casas decimais
+     * ou não couber exatamente em um double.
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount.scale() > 2) return NOT_REPRESENTABLE;
+        long cents;
+        try {
+            cents = amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException ex) {
+            return NOT_REPRESENTABLE;
+        }
+        return Math.abs(cents) < MAX_CENTS ? cents : NOT_REPRESENTABLE;
+    }
+}
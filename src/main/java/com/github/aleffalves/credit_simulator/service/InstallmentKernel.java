@@ -0,0 +1,11 @@
+package com.github.aleffalves.credit_simulator.service;
+
+/**
+ * Calcula {@code pmt[i] = pv[i] * factor[i]} para um bloco de cenários.
+ */
+interface InstallmentKernel {
+
+    void installments(double[] principals, double[] factors, double[] installments, int length);
+
+    String name();
+}
@@ -0,0 +1,96 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+
+/**
+ * Inversas da fórmula da Tabela Price usada em {@link LoadSimulatorService#calculateInstallment}, sobre
+ * {@code double} e sem alocação. Valor máximo e prazo mínimo saem de fórmulas fechadas e depois são ajustados em
+ * poucos passos contra a parcela arredondada em centavos, de modo que a resposta confere com uma simulação com os
+ * mesmos dados. O custo efetivo é uma taxa interna de retorno, calculada por Newton com intervalo de segurança
+ * (bissecção quando o passo de Newton sai do intervalo).
+ */
+public final class InstallmentSolver {
+
+    public static final int NO_SOLUTION = -1;
+
+    private static final int MAX_ITERATIONS = 100;
+    private static final double RATE_TOLERANCE = 1e-15;
+
+    private InstallmentSolver() {
+    }
+
+    /**
+     * Parcela em centavos com o mesmo arredondamento da simulação.
+     */
+    public static long installmentCents(double pv, double factor) {
+        return FixedPointSimulationEngine.roundHalfEvenCents(pv * factor);
+    }
+
+    /**
+     * Maior valor, em centavos, cuja parcela arredondada não passa de {@code installmentCents}.
+     * Fórmula fechada: {@code pv = pmt / fator}, com {@code fator = r / (1 - (1 + r)^-n)}.
+     *
+     * @throws SimulationValidationException se o valor passar de {@link FixedPointSimulationEngine#MAX_CENTS}
+     */
+    public static long maxPrincipalCents(long installmentCents, double factor) {
+        // A parcela antes do arredondamento pode chegar a meio centavo acima do limite.
+        double pmt = (installmentCents + 0.5) / 100;
+        double estimate = Math.floor(pmt / factor * 100);
+        if (!(estimate < FixedPointSimulationEngine.MAX_CENTS)) {
+            throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE);
+        }
+        long pv = (long) estimate;
+        while (pv > 0 && installmentCents(pv / 100.0, factor) > installmentCents) pv--;
+        while (pv < FixedPointSimulationEngine.MAX_CENTS
+                && installmentCents((pv + 1) / 100.0, factor) <= installmentCents) pv++;
+        return pv;
+    }
+
+    /**
+     * Menor prazo cuja parcela arredondada não passa de {@code installmentCents}, ou {@link #NO_SOLUTION} se a parcela
+     * não passa dos juros do primeiro mês (o saldo nunca cairia). Fórmula fechada: {@code n = -ln(1 - pv × r / pmt) / ln(1 + r)}.
+     */
+    public static int minTerm(double pv, long installmentCents, int rateTier, AnnuityFactorTable annuityFactorTable) {
+        double r = annuityFactorTable.rate(rateTier);
+        double interestShare = pv * r / (installmentCents / 100.0);
+        if (interestShare >= 1) return NO_SOLUTION;
+        double estimate = Math.ceil(-Math.log1p(-interestShare) / Math.log1p(r));
+        if (estimate >= Integer.MAX_VALUE) return NO_SOLUTION;
+
+        int n = Math.max(1, (int) estimate);
+        while (n > 1 && installmentCents(pv, annuityFactorTable.factor(rateTier, n - 1)) <= installmentCents) n--;
+        while (installmentCents(pv, annuityFactorTable.factor(rateTier, n)) > installmentCents) {
+            if (n == Integer.MAX_VALUE) return NO_SOLUTION;
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Taxa mensal {@code i} que iguala o valor presente de {@code n} parcelas de {@code pmt} ao valor liberado:
+     * {@code pmt × (1 - (1 + i)^-n) / i = netPv}. A função é decrescente em {@code i}, então a raiz fica entre 0 e
+     * {@code pmt / netPv}; {@code guess} (normalmente a taxa do contrato) é o ponto de partida de Newton. Retorna 0
+     * quando as parcelas somadas não passam do valor liberado.
+     */
+    public static double monthlyInternalRate(double netPv, double pmt, int n, double guess) {
+        if (pmt * n <= netPv) return 0;
+        double low = 0;
+        double high = pmt / netPv;
+        double i = guess > low && guess < high ? guess : high / 2;
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double discount = Math.pow(1 + i, -n);
+            double f = pmt * (1 - discount) / i - netPv;
+            if (f == 0) return i;
+            if (f > 0) low = i;
+            else high = i;
+
+            double derivative = pmt * (n * discount / (1 + i) - (1 - discount) / i) / i;
+            double next = i - f / derivative;
+            if (!(next > low && next < high)) next = (low + high) / 2;
+            if (Math.abs(next - i) <= RATE_TOLERANCE) return next;
+            i = next;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class LoadSimulatorBatchService {
+
+    @Autowired
+    private LoadSimulatorService loadSimulatorService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private WireFormats wireFormats;
+
+    @Value("${credit-simulator.batch.chunk-size:512}")
+    private int chunkSize;
+
+    public void simulate(InputStream input, OutputStream output) throws IOException {
+        simulate(input, MediaType.APPLICATION_JSON, output, MediaType.APPLICATION_NDJSON);
+    }
+
+    /**
+     * Lê um array ou uma sequência de simulações e escreve um resultado por item, na ordem de entrada. Em JSON a
+     * saída é NDJSON; em CBOR e Smile, uma sequência de valores na raiz. Os itens são processados em blocos de
+     * {@code chunkSize}, em paralelo dentro de cada bloco, de modo que nem a entrada nem a saída completas fiquem
+     * em memória.
+     */
+    public void simulate(InputStream input, MediaType inputType, OutputStream output, MediaType outputType) throws IOException {
+        ObjectMapper inputMapper = wireFormats.mapperFor(inputType);
+        ObjectMapper outputMapper = wireFormats.mapperFor(outputType);
+        boolean newlineDelimited = !WireFormats.isBinary(outputMapper);
+        ObjectWriter writer = outputMapper.writerFor(LoadSimulatorBatchResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonNode[] chunk = new JsonNode[chunkSize];
+        LoadSimulatorBatchResult[] results = new LoadSimulatorBatchResult[chunkSize];
+        long offset = 0;
+
+        try (MappingIterator<JsonNode> items = inputMapper.readerFor(JsonNode.class).readValues(input);
+             JsonGenerator generator = outputMapper.createGenerator(output)) {
+            if (newlineDelimited) generator.setRootValueSeparator(null);
+            boolean hasNext = true;
+            while (hasNext) {
+                int size = 0;
+                String readError = null;
+                try {
+                    while (size < chunkSize && (hasNext = items.hasNextValue())) {
+                        chunk[size++] = items.nextValue();
+                    }
+                } catch (JsonProcessingException ex) {
+                    // Erro de sintaxe: não é possível localizar o próximo item, então o lote termina aqui.
+                    readError = ex.getOriginalMessage();
+                    hasNext = false;
+                }
+
+                long base = offset;
+                IntStream.range(0, size).parallel().forEach(i -> results[i] = evaluate(base + i, chunk[i]));
+
+                for (int i = 0; i < size; i++) {
+                    writeItem(writer, generator, results[i], newlineDelimited);
+                    chunk[i] = null;
+                    results[i] = null;
+                }
+                offset += size;
+
+                if (readError != null) {
+                    writeItem(writer, generator, error(offset, readError), newlineDelimited);
+                }
+                generator.flush();
+            }
+        }
+    }
+
+    public LoadSimulatorBatchResult evaluate(long index, JsonNode item) {
+        try {
+            return evaluate(index, objectMapper.treeToValue(item, LoadSimulatorRequest.class));
+        } catch (JsonProcessingException ex) {
+            return error(index, ex.getOriginalMessage());
+        }
+    }
+
+    public LoadSimulatorBatchResult evaluate(long index, LoadSimulatorRequest request) {
+        try {
+            Set<ConstraintViolation<LoadSimulatorRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return error(index, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+            }
+            return LoadSimulatorBatchResult.builder()
+                    .index(index)
+                    .result(loadSimulatorService.simulate(request))
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            return error(index, ex.getMessage());
+        } catch (Exception ex) {
+            return error(index, "An unexpected error occurred");
+        }
+    }
+
+    private void writeItem(ObjectWriter writer, JsonGenerator generator, LoadSimulatorBatchResult result,
+                           boolean newlineDelimited) throws IOException {
+        writer.writeValue(generator, result);
+        if (newlineDelimited) generator.writeRaw('\n');
+    }
+
+    private static LoadSimulatorBatchResult error(long index, String message) {
+        return LoadSimulatorBatchResult.builder()
+                .index(index)
+                .error(message)
+                .build();
+    }
+}
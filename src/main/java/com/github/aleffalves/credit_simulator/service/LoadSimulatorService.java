@@ -1,63 +1,247 @@
 package com.github.aleffalves.credit_simulator.service;
 
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridCell;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridRequest;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import com.github.aleffalves.credit_simulator.journal.SimulationJournal;
+import com.github.aleffalves.credit_simulator.metrics.SimulationMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class LoadSimulatorService {
 
+    private final RateTable rateTable;
+    private final SimulationEngineType engine;
+    private final SimulationMetrics metrics;
+    private final SimulationCache cache;
+    private final SimulationJournal journal;
+    private final int maxGridCells;
+
+    @Autowired
+    public LoadSimulatorService(RateTable rateTable,
+                                @Value("${credit-simulator.engine:big-decimal}") SimulationEngineType engine,
+                                SimulationMetrics metrics,
+                                SimulationCache cache,
+                                SimulationJournal journal,
+                                @Value("${credit-simulator.grid.max-cells:100000}") int maxGridCells) {
+        this.rateTable = rateTable;
+        this.engine = engine;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.journal = journal;
+        this.maxGridCells = maxGridCells;
+    }
+
     public LoadSimulatorResponse simulate(LoadSimulatorRequest request) {
-        int age = calculateAge(request.getDateOfBirth());
-        BigDecimal annualInterestRate = getAnnualInterestRateByAge(age);
-        BigDecimal monthlyInterestRate = annualInterestRate.divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_EVEN);
+        long start = System.nanoTime();
+        RateTable.Snapshot rates = rateTable.current();
+        int rateTier = rates.tierOf(request.getDateOfBirth());
+        long ageResolved = System.nanoTime();
+        BigDecimal monthlyInterestRate = rates.monthlyRate(rateTier);
+        long rateResolved = System.nanoTime();
+
+        BigDecimal loanAmount = request.getLoanAmount();
+        int paymentTermMonths = request.getPaymentTermMonths();
+        metrics.recordRateResolution(rateTier, paymentTermMonths, start, ageResolved, rateResolved);
+
+        LoadSimulatorResponse response = cache.get(loanAmount, rates.version(), rateTier, paymentTermMonths,
+                () -> calculate(rates, loanAmount, rateTier, monthlyInterestRate, paymentTermMonths));
+        journal.record(request, response);
+        return response;
+    }
+
+    private LoadSimulatorResponse calculate(RateTable.Snapshot rates, BigDecimal loanAmount, int rateTier,
+                                            BigDecimal monthlyInterestRate, int paymentTermMonths) {
+        FixedPointSimulationEngine fixedPointEngine = rates.fixedPointEngine();
+        long start = System.nanoTime();
+        LoadSimulatorResponse response = null;
+        long installmentCalculated = 0;
+
+        long pvCents = engine == SimulationEngineType.FIXED_POINT
+                ? FixedPointSimulationEngine.toCents(loanAmount)
+                : FixedPointSimulationEngine.NOT_REPRESENTABLE;
+        if (pvCents != FixedPointSimulationEngine.NOT_REPRESENTABLE) {
+            long installmentCents = fixedPointEngine.installmentCents(pvCents, rateTier, paymentTermMonths);
+            installmentCalculated = System.nanoTime();
+            response = fixedPointEngine.toResponse(pvCents, installmentCents, paymentTermMonths);
+        }
+
+        if (response == null) {
+            validateInstallmentArguments(loanAmount, monthlyInterestRate, paymentTermMonths);
+            BigDecimal installmentValue = calculateInstallment(
+                                            loanAmount,
+                                            rates.annuityFactorTable().factor(rateTier, paymentTermMonths));
+            installmentCalculated = System.nanoTime();
 
-        BigDecimal installmentValue = calculateInstallment(
-                                        request.getLoanAmount(),
-                                        monthlyInterestRate,
-                                        request.getPaymentTermMonths());
+            BigDecimal totalValue = installmentValue.multiply(BigDecimal.valueOf(paymentTermMonths));
+            BigDecimal totalInterestPaid = totalValue.subtract(loanAmount);
 
-        BigDecimal totalValue = installmentValue.multiply(BigDecimal.valueOf(request.getPaymentTermMonths()));
-        BigDecimal totalInterestPaid = totalValue.subtract(request.getLoanAmount());
+            response = LoadSimulatorResponse.builder()
+                    .monthlyInstallment(installmentValue)
+                    .totalAmountPayable(totalValue)
+                    .totalInterestPaid(totalInterestPaid)
+                    .build();
+        }
 
-        return LoadSimulatorResponse.builder()
-                .monthlyInstallment(installmentValue)
-                .totalAmountPayable(totalValue)
-                .totalInterestPaid(totalInterestPaid)
-                .build();
+        metrics.recordCalculation(start, installmentCalculated, System.nanoTime());
+        return response;
     }
 
     public int calculateAge(LocalDate dateOfBirth){
-        if (dateOfBirth.isAfter(LocalDate.now())) throw new IllegalArgumentException("A data de nascimento não pode ser no futuro.");
-        return Period.between(dateOfBirth, LocalDate.now()).getYears();
+        LocalDate today = rateTable.current().today();
+        if (dateOfBirth.isAfter(today)) throw new SimulationValidationException(SimulationValidationException.FUTURE_DATE_OF_BIRTH);
+        return Period.between(dateOfBirth, today).getYears();
     }
 
     public BigDecimal getAnnualInterestRateByAge(int age){
-        if (age < 0) throw new IllegalArgumentException("A idade não pode ser negativa.");
+        RateTable.Snapshot rates = rateTable.current();
+        return rates.annualRate(rates.tierOfAge(age));
+    }
 
-        if (age <= 25) return BigDecimal.valueOf(0.05);
-        if (age <= 40) return BigDecimal.valueOf(0.03);
-        if (age <= 60) return BigDecimal.valueOf(0.02);
-        return BigDecimal.valueOf(0.04);
+    public int getRateTierByAge(int age){
+        return rateTable.current().tierOfAge(age);
     }
 
     public BigDecimal calculateInstallment(BigDecimal pv, BigDecimal r, int n){
+        validateInstallmentArguments(pv, r, n);
+        return calculateInstallment(pv, rateTable.current().annuityFactorTable().factor(r.doubleValue(), n));
+    }
+
+    /**
+     * Mesma parcela de {@link #calculateInstallment(BigDecimal, BigDecimal, int)} para a taxa da faixa
+     * {@code rateTier}, já resolvida: o fator sai da tabela sem procurar a taxa.
+     */
+    public BigDecimal calculateInstallment(BigDecimal pv, int rateTier, int n){
+        RateTable.Snapshot rates = rateTable.current();
+        BigDecimal r = rates.monthlyRate(rateTier);
+        validateInstallmentArguments(pv, r, n);
+        return calculateInstallment(pv, rates.annuityFactorTable().factor(rateTier, n));
+    }
+
+    private static BigDecimal calculateInstallment(BigDecimal pv, double factor){
+        // Tabela Price
+        // Fórmula PMT: pv * r / (1 - (1 + r)^-n), com o fator r / (1 - (1 + r)^-n) vindo da tabela pré-calculada
+        // (prazos fora dela são calculados na hora).
+        double pmt = pv.doubleValue() * factor;
+
+        // Mesmo arredondamento de BigDecimal.valueOf(pmt).setScale(2, HALF_EVEN), sem passar por Double.toString
+        // enquanto a parcela couber em centavos exatos.
+        if (Math.abs(pmt * 100) < FixedPointSimulationEngine.MAX_CENTS) {
+            return BigDecimal.valueOf(FixedPointSimulationEngine.roundHalfEvenCents(pmt), 2);
+        }
+        return BigDecimal.valueOf(pmt).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private static void validateInstallmentArguments(BigDecimal pv, BigDecimal r, int n) {
         if(pv.compareTo(BigDecimal.ZERO) <= 0 || r.compareTo(BigDecimal.ZERO) <= 0 || n <= 0) {
-            throw new IllegalArgumentException("Argumentos inválidos para o calculo.");
+            throw new SimulationValidationException(SimulationValidationException.INVALID_ARGUMENTS);
         }
+    }
 
-        // Tabela Price
-        // Fórmula PMT: (pv * r) / (1 - (1 + r)^-n)
+    /**
+     * Versão em lote de {@link #calculateInstallment(BigDecimal, BigDecimal, int)}: parcelas em centavos, com o mesmo
+     * arredondamento do cálculo individual.
+     */
+    public long[] calculateInstallments(double[] principals, double[] rates, int[] terms) {
+        long[] installmentCents = new long[principals.length];
+        BulkInstallmentCalculator.calculate(principals, rates, terms, rateTable.current().annuityFactorTable(), installmentCents);
+        return installmentCents;
+    }
 
-        double pow = Math.pow(1 + r.doubleValue(), -n);
-        double v = pv.doubleValue() * r.doubleValue();
-        double pmt = v / (1 - pow);
+    /**
+     * Simula todas as combinações de valor × prazo × faixa de taxa, nessa ordem de aninhamento.
+     */
+    public List<LoadSimulatorGridCell> simulateGrid(LoadSimulatorGridRequest request) {
+        RateTable.Snapshot rates = rateTable.current();
+        List<BigDecimal> loanAmounts = request.getLoanAmounts();
+        List<Integer> terms = request.getPaymentTermsMonths();
+        int[] tiers = gridTiers(request.getRateTiers(), rates);
 
-        return BigDecimal.valueOf(pmt).setScale(2, RoundingMode.HALF_EVEN);
+        long cells = (long) loanAmounts.size() * terms.size() * tiers.length;
+        if (cells > maxGridCells) {
+            throw new SimulationValidationException("A grade tem " + cells + " combinações; o máximo é " + maxGridCells + ".");
+        }
+        // A grade é calculada em lote, em double: valores sem centavos exatos são recusados antes de montar os arrays.
+        for (BigDecimal loanAmount : loanAmounts) {
+            if (!FixedPointSimulationEngine.fitsInCents(loanAmount)) {
+                throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE);
+            }
+        }
+
+        int size = (int) cells;
+        double[] principalArray = new double[size];
+        double[] rateArray = new double[size];
+        int[] tierArray = new int[size];
+        int[] termArray = new int[size];
+        int i = 0;
+        for (BigDecimal loanAmount : loanAmounts) {
+            double pv = loanAmount.doubleValue();
+            for (Integer term : terms) {
+                for (int tier : tiers) {
+                    principalArray[i] = pv;
+                    rateArray[i] = rates.monthlyRate(tier).doubleValue();
+                    tierArray[i] = tier;
+                    termArray[i] = term;
+                    i++;
+                }
+            }
+        }
+
+        long[] installmentCents = new long[size];
+        BulkInstallmentCalculator.calculate(principalArray, rateArray, tierArray, termArray, rates.annuityFactorTable(), installmentCents);
+
+        List<LoadSimulatorGridCell> result = new ArrayList<>(size);
+        i = 0;
+        for (BigDecimal loanAmount : loanAmounts) {
+            for (Integer term : terms) {
+                BigDecimal months = BigDecimal.valueOf(term);
+                for (int tier : tiers) {
+                    BigDecimal installmentValue = BigDecimal.valueOf(installmentCents[i++], 2);
+                    BigDecimal totalValue = installmentValue.multiply(months);
+                    result.add(LoadSimulatorGridCell.builder()
+                            .loanAmount(loanAmount)
+                            .paymentTermMonths(term)
+                            .rateTier(tier)
+                            .annualInterestRate(rates.annualRate(tier))
+                            .monthlyInstallment(installmentValue)
+                            .totalAmountPayable(totalValue)
+                            .totalInterestPaid(totalValue.subtract(loanAmount))
+                            .build());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int[] gridTiers(List<Integer> requested, RateTable.Snapshot rates) {
+        if (requested == null || requested.isEmpty()) {
+            int[] all = new int[rates.size()];
+            for (int tier = 0; tier < all.length; tier++) all[tier] = tier;
+            return all;
+        }
+        int[] tiers = new int[requested.size()];
+        for (int i = 0; i < tiers.length; i++) {
+            int tier = requested.get(i);
+            if (tier < 0 || tier >= rates.size()) {
+                throw new SimulationValidationException("Faixa de taxa inexistente: " + tier + ". Faixas disponíveis: 0 a " + (rates.size() - 1) + ".");
+            }
+            tiers[i] = tier;
+        }
+        return tiers;
+    }
+
+    public BigDecimal toMonthlyInterestRate(BigDecimal annualInterestRate) {
+        return RateTable.toMonthlyInterestRate(annualInterestRate);
     }
 }
@@ -0,0 +1,177 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoanSolverBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverRequest;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Perguntas inversas à simulação: o maior valor para uma parcela, o menor prazo para uma parcela e o custo efetivo
+ * total (CET) de um empréstimo. A taxa vem da faixa do cliente, como na simulação, e o empréstimo encontrado é
+ * sempre recalculado pela fórmula da simulação: a parcela da resposta é a mesma que {@code /load-simulator}
+ * devolveria para esse valor e prazo.
+ */
+@Service
+public class LoanSolverService {
+
+    private static final int COST_SCALE = 6;
+
+    private final RateTable rateTable;
+    private final Validator validator;
+    private final int maxBatchSize;
+
+    @Autowired
+    public LoanSolverService(RateTable rateTable, Validator validator,
+                             @Value("${credit-simulator.solver.max-batch-size:100000}") int maxBatchSize) {
+        this.rateTable = rateTable;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public LoanSolverResponse solve(LoanSolverRequest request) {
+        return solve(rateTable.current(), request);
+    }
+
+    /**
+     * Resolve cada item com a mesma tabela de taxas. Itens inválidos viram um resultado com {@code error}, na mesma
+     * posição, sem interromper os demais.
+     */
+    public List<LoanSolverBatchResult> solveAll(List<LoanSolverRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new SimulationValidationException("O lote tem " + requests.size() + " itens; o máximo é " + maxBatchSize + ".");
+        }
+        RateTable.Snapshot rates = rateTable.current();
+        List<LoanSolverBatchResult> results = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            results.add(evaluate(rates, index, requests.get(index)));
+        }
+        return results;
+    }
+
+    private LoanSolverBatchResult evaluate(RateTable.Snapshot rates, long index, LoanSolverRequest request) {
+        try {
+            if (request == null) return error(index, "O item não pode ser nulo.");
+            Set<ConstraintViolation<LoanSolverRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return error(index, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+            }
+            return LoanSolverBatchResult.builder()
+                    .index(index)
+                    .result(solve(rates, request))
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            return error(index, ex.getMessage());
+        } catch (Exception ex) {
+            return error(index, "An unexpected error occurred");
+        }
+    }
+
+    private LoanSolverResponse solve(RateTable.Snapshot rates, LoanSolverRequest request) {
+        int rateTier = rates.tierOf(request.getDateOfBirth());
+        double r = rates.monthlyRate(rateTier).doubleValue();
+        AnnuityFactorTable annuityFactorTable = rates.annuityFactorTable();
+
+        BigDecimal loanAmount;
+        int paymentTermMonths;
+        switch (request.getTarget()) {
+            case MAX_LOAN_AMOUNT -> {
+                long installmentCents = installmentCents(required(request.getMonthlyInstallment(), "a parcela mensal"));
+                paymentTermMonths = required(request.getPaymentTermMonths(), "o prazo de pagamento");
+                long pvCents = InstallmentSolver.maxPrincipalCents(installmentCents,
+                        annuityFactorTable.factor(rateTier, paymentTermMonths));
+                if (pvCents <= 0) {
+                    throw new SimulationValidationException("A parcela de " + BigDecimal.valueOf(installmentCents, 2)
+                            + " não permite nenhum empréstimo em " + paymentTermMonths + " meses.");
+                }
+                loanAmount = BigDecimal.valueOf(pvCents, 2);
+            }
+            case MIN_PAYMENT_TERM -> {
+                long installmentCents = installmentCents(required(request.getMonthlyInstallment(), "a parcela mensal"));
+                loanAmount = loanAmount(required(request.getLoanAmount(), "o valor do empréstimo"));
+                paymentTermMonths = InstallmentSolver.minTerm(loanAmount.doubleValue(), installmentCents, rateTier, annuityFactorTable);
+                if (paymentTermMonths == InstallmentSolver.NO_SOLUTION) {
+                    BigDecimal firstInterest = loanAmount.multiply(rates.monthlyRate(rateTier)).setScale(2, RoundingMode.HALF_EVEN);
+                    throw new SimulationValidationException("A parcela de " + BigDecimal.valueOf(installmentCents, 2)
+                            + " não cobre os juros do primeiro mês (" + firstInterest + ").");
+                }
+            }
+            default -> {
+                loanAmount = loanAmount(required(request.getLoanAmount(), "o valor do empréstimo"));
+                paymentTermMonths = required(request.getPaymentTermMonths(), "o prazo de pagamento");
+            }
+        }
+
+        double pv = loanAmount.doubleValue();
+        long installmentCents = InstallmentSolver.installmentCents(pv,
+                annuityFactorTable.factor(rateTier, paymentTermMonths));
+        BigDecimal installmentValue = BigDecimal.valueOf(installmentCents, 2);
+        BigDecimal totalValue = installmentValue.multiply(BigDecimal.valueOf(paymentTermMonths));
+
+        BigDecimal fees = request.getUpfrontFees() == null ? BigDecimal.ZERO : request.getUpfrontFees();
+        BigDecimal released = loanAmount.subtract(fees);
+        if (released.signum() <= 0) {
+            throw new SimulationValidationException("As tarifas (" + fees + ") não podem consumir todo o valor do empréstimo (" + loanAmount + ").");
+        }
+        double monthlyCost = InstallmentSolver.monthlyInternalRate(released.doubleValue(), installmentCents / 100.0,
+                paymentTermMonths, r);
+
+        return LoanSolverResponse.builder()
+                .target(request.getTarget())
+                .loanAmount(loanAmount)
+                .paymentTermMonths(paymentTermMonths)
+                .rateTier(rateTier)
+                .annualInterestRate(rates.annualRate(rateTier))
+                .monthlyInstallment(installmentValue)
+                .totalAmountPayable(totalValue)
+                .totalInterestPaid(totalValue.subtract(loanAmount))
+                .effectiveMonthlyCost(cost(monthlyCost))
+                .effectiveAnnualCost(cost(Math.pow(1 + monthlyCost, 12) - 1))
+                .build();
+    }
+
+    // Centavos inteiros, para baixo: a parcela informada é um teto e nunca deve ser ultrapassada.
+    private static long installmentCents(BigDecimal amount) {
+        if (!FixedPointSimulationEngine.fitsInCents(amount)) {
+            throw new SimulationValidationException("A parcela mensal excede o limite suportado pelo cálculo.");
+        }
+        return amount.setScale(2, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal loanAmount(BigDecimal amount) {
+        if (!FixedPointSimulationEngine.fitsInCents(amount)) {
+            throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE);
+        }
+        return amount;
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) throw new SimulationValidationException("Informe " + field + " para este cálculo.");
+        return value;
+    }
+
+    private static BigDecimal cost(double rate) {
+        return BigDecimal.valueOf(rate).setScale(COST_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    private static LoanSolverBatchResult error(long index, String message) {
+        return LoanSolverBatchResult.builder()
+                .index(index)
+                .error(message)
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.DistributionSummary;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressRequest;
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de estresse de uma carteira por Monte Carlo. Em cada cenário a taxa anual de todos os empréstimos recebe o
+ * mesmo choque gaussiano ({@code rateShockStdDev}) e cada empréstimo pode ser quitado antecipadamente, com
+ * probabilidade mensal derivada da taxa anual de pré-pagamento. As parcelas saem do mesmo cálculo em lote das
+ * simulações ({@link BulkInstallmentCalculator}), com as taxas do dia da {@link RateTable}.
+ *
+ * <p>Os cenários são divididos em um {@link ForkJoinPool} próprio ({@code credit-simulator.stress.parallelism}). A
+ * árvore de divisão depende só do número de cenários e de empréstimos, e cada metade direita recebe
+ * {@link SplittableRandom#split()} do gerador da esquerda: a mesma semente produz os mesmos números em cada cenário,
+ * qualquer que seja o número de threads. Os resultados por cenário ficam em arrays primitivos, de onde saem média e
+ * percentis.
+ */
+@Service
+public class PortfolioStressService {
+
+    // Empréstimos × cenários calculados de uma vez por folha: os arrays da folha cabem no cache L2.
+    private static final int LEAF_CELLS = 16_384;
+    private static final double MIN_MONTHLY_RATE = 0.0001;
+
+    private final RateTable rateTable;
+    private final int parallelism;
+    private final int maxPaths;
+    private final long maxLoanPaths;
+
+    private ForkJoinPool pool;
+
+    @Autowired
+    public PortfolioStressService(RateTable rateTable,
+                                  @Value("${credit-simulator.stress.parallelism:0}") int parallelism,
+                                  @Value("${credit-simulator.stress.max-paths:1000000}") int maxPaths,
+                                  @Value("${credit-simulator.stress.max-loan-paths:200000000}") long maxLoanPaths) {
+        this.rateTable = rateTable;
+        this.parallelism = parallelism;
+        this.maxPaths = maxPaths;
+        this.maxLoanPaths = maxLoanPaths;
+    }
+
+    @PostConstruct
+    void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    public PortfolioStressResponse stress(PortfolioStressRequest request) {
+        List<LoadSimulatorRequest> loans = request.getLoans();
+        int paths = request.getPaths();
+        if (paths > maxPaths) {
+            throw new SimulationValidationException("O teste tem " + paths + " cenários; o máximo é " + maxPaths + ".");
+        }
+        if ((long) paths * loans.size() > maxLoanPaths) {
+            throw new SimulationValidationException("O teste tem " + ((long) paths * loans.size())
+                    + " combinações de cenário e empréstimo; o máximo é " + maxLoanPaths + ".");
+        }
+
+        Portfolio portfolio = new Portfolio(rateTable.current(), loans,
+                toDouble(request.getRateShockStdDev()), toDouble(request.getAnnualPrepaymentRate()));
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        double[] interest = new double[paths];
+        double[] installment = new double[paths];
+        AtomicLong prepaid = new AtomicLong();
+
+        pool.invoke(new PathRange(portfolio, 0, paths, new SplittableRandom(seed), interest, installment, prepaid));
+
+        return PortfolioStressResponse.builder()
+                .loans(loans.size())
+                .paths(paths)
+                .seed(seed)
+                .totalInterestPaid(summarize(interest))
+                .monthlyInstallment(summarize(installment))
+                .prepaidShare(BigDecimal.valueOf(prepaid.get())
+                        .divide(BigDecimal.valueOf((long) paths * loans.size()), 4, RoundingMode.HALF_EVEN))
+                .build();
+    }
+
+    // Ordena o array no lugar; a média é somada antes, na ordem dos cenários, para não depender do paralelismo.
+    static DistributionSummary summarize(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        double mean = sum / values.length;
+
+        Arrays.parallelSort(values);
+        return DistributionSummary.builder()
+                .mean(money(mean))
+                .min(money(values[0]))
+                .p5(money(percentile(values, 0.05)))
+                .p50(money(percentile(values, 0.50)))
+                .p95(money(percentile(values, 0.95)))
+                .p99(money(percentile(values, 0.99)))
+                .max(money(values[values.length - 1]))
+                .build();
+    }
+
+    // Método do posto mais próximo sobre um array ordenado.
+    private static double percentile(double[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+
+    /**
+     * Dados da carteira já resolvidos em arrays, compartilhados (somente leitura) por todas as folhas.
+     */
+    private static final class Portfolio {
+        final AnnuityFactorTable annuityFactorTable;
+        final double[] principals;
+        final double[] annualRates;
+        final double[] monthlyRates;
+        final int[] tiers;
+        final int[] terms;
+        final double rateShockStdDev;
+        final double monthlyPrepaymentRate;
+        final int leafPaths;
+
+        Portfolio(RateTable.Snapshot rates, List<LoadSimulatorRequest> loans, double rateShockStdDev, double annualPrepaymentRate) {
+            int size = loans.size();
+            this.annuityFactorTable = rates.annuityFactorTable();
+            this.principals = new double[size];
+            this.annualRates = new double[size];
+            this.monthlyRates = new double[size];
+            this.tiers = new int[size];
+            this.terms = new int[size];
+            for (int i = 0; i < size; i++) {
+                LoadSimulatorRequest loan = loans.get(i);
+                // Rejeitado aqui, e não dentro do pool: acima do limite o arredondamento em centavos estoura.
+                if (!FixedPointSimulationEngine.fitsInCents(loan.getLoanAmount())) {
+                    throw new SimulationValidationException(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE);
+                }
+                int tier = rates.tierOf(loan.getDateOfBirth());
+                principals[i] = loan.getLoanAmount().doubleValue();
+                annualRates[i] = rates.annualRate(tier).doubleValue();
+                monthlyRates[i] = rates.monthlyRate(tier).doubleValue();
+                tiers[i] = tier;
+                terms[i] = loan.getPaymentTermMonths();
+            }
+            this.rateShockStdDev = rateShockStdDev;
+            this.monthlyPrepaymentRate = 1 - Math.pow(1 - annualPrepaymentRate, 1.0 / 12);
+            this.leafPaths = Math.max(1, LEAF_CELLS / size);
+        }
+
+        // Mesmo arredondamento de RateTable.toMonthlyInterestRate (4 casas, metade para o par). Sem choque, usa a
+        // taxa da faixa, que tem os fatores pré-calculados.
+        double shockedMonthlyRate(int loan, double shock) {
+            if (shock == 0) return monthlyRates[loan];
+            double monthly = Math.rint((annualRates[loan] + shock) / 12 * 10_000) / 10_000;
+            return Math.max(MIN_MONTHLY_RATE, monthly);
+        }
+    }
+
+    private static final class PathRange extends RecursiveAction {
+        private final Portfolio portfolio;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+        private final double[] interest;
+        private final double[] installment;
+        private final AtomicLong prepaid;
+
+        PathRange(Portfolio portfolio, int from, int to, SplittableRandom random,
+                  double[] interest, double[] installment, AtomicLong prepaid) {
+            this.portfolio = portfolio;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.interest = interest;
+            this.installment = installment;
+            this.prepaid = prepaid;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= portfolio.leafPaths) {
+                simulate();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            // O split acontece antes de a metade esquerda usar o gerador, então a sequência de cada folha é fixa.
+            PathRange right = new PathRange(portfolio, middle, to, random.split(), interest, installment, prepaid);
+            PathRange left = new PathRange(portfolio, from, middle, random, interest, installment, prepaid);
+            invokeAll(left, right);
+        }
+
+        private void simulate() {
+            int loans = portfolio.principals.length;
+            int cells = (to - from) * loans;
+            double[] principals = new double[cells];
+            double[] rates = new double[cells];
+            int[] tiers = new int[cells];
+            int[] terms = new int[cells];
+            long[] installmentCents = new long[cells];
+
+            int cell = 0;
+            for (int path = from; path < to; path++) {
+                double shock = portfolio.rateShockStdDev == 0 ? 0 : random.nextGaussian() * portfolio.rateShockStdDev;
+                for (int loan = 0; loan < loans; loan++) {
+                    principals[cell] = portfolio.principals[loan];
+                    rates[cell] = portfolio.shockedMonthlyRate(loan, shock);
+                    // Com choque a taxa sai da tabela; o fator é calculado na hora.
+                    tiers[cell] = shock == 0 ? portfolio.tiers[loan] : -1;
+                    terms[cell] = portfolio.terms[loan];
+                    cell++;
+                }
+            }
+
+            BulkInstallmentCalculator.calculate(principals, rates, tiers, terms, portfolio.annuityFactorTable, installmentCents);
+
+            double smm = portfolio.monthlyPrepaymentRate;
+            long prepaidLoans = 0;
+            cell = 0;
+            for (int path = from; path < to; path++) {
+                double pathInterest = 0;
+                long pathInstallmentCents = 0;
+                for (int loan = 0; loan < loans; loan++, cell++) {
+                    double pv = principals[cell];
+                    int n = terms[cell];
+                    double pmt = installmentCents[cell] / 100.0;
+                    pathInstallmentCents += installmentCents[cell];
+
+                    int paidMonths = n;
+                    if (smm > 0) {
+                        // Mês da quitação ~ geométrica(smm); depois do prazo, não há pré-pagamento.
+                        double months = Math.ceil(Math.log1p(-random.nextDouble()) / Math.log1p(-smm));
+                        if (months < n) paidMonths = (int) Math.max(1, months);
+                    }
+                    if (paidMonths < n) {
+                        prepaidLoans++;
+                        pathInterest += paidMonths * pmt - (pv - balance(pv, rates[cell], pmt, paidMonths));
+                    } else {
+                        pathInterest += n * pmt - pv;
+                    }
+                }
+                interest[path] = pathInterest;
+                installment[path] = pathInstallmentCents / 100.0;
+            }
+            prepaid.addAndGet(prepaidLoans);
+        }
+
+        // Saldo devedor após m parcelas da Tabela Price.
+        private static double balance(double pv, double r, double pmt, int m) {
+            double growth = Math.pow(1 + r, m);
+            return Math.max(0, pv * growth - pmt * (growth - 1) / r);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Faixas etárias e taxas de juros anuais, lidas da configuração ({@code credit-simulator.rates.tiers}) ou de um
+ * arquivo ({@code credit-simulator.rates.file}) que é recarregado sem reiniciar a aplicação.
+ *
+ * <p>O estado fica em um {@link Snapshot} imutável, trocado atomicamente. A cada dia o snapshot recalcula, para cada
+ * faixa, a menor data de nascimento (em epoch day) que ainda pertence a ela; resolver a taxa de uma requisição vira
+ * uma comparação de {@code long} contra um array pequeno, sem aritmética de datas nem alocação.
+ */
+@Component
+public class RateTable {
+
+    public static final String DEFAULT_TIERS = "25:0.05,40:0.03,60:0.02,*:0.04";
+    public static final int MAX_TIERS = 16;
+
+    private static final Logger log = LoggerFactory.getLogger(RateTable.class);
+
+    private final Clock clock;
+    private final Path file;
+    private final ApplicationEventPublisher publisher;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private volatile long fileLastModified = Long.MIN_VALUE;
+    private volatile String tiers;
+
+    @Autowired
+    public RateTable(@Value("${credit-simulator.rates.tiers:" + DEFAULT_TIERS + "}") String tiers,
+                     @Value("${credit-simulator.rates.file:}") String file,
+                     ApplicationEventPublisher publisher) {
+        this(tiers, StringUtils.hasText(file) ? Path.of(file) : null, publisher, Clock.systemDefaultZone());
+    }
+
+    RateTable(String tiers, Path file, ApplicationEventPublisher publisher, Clock clock) {
+        this.clock = clock;
+        this.file = file;
+        this.publisher = publisher;
+        this.tiers = tiers;
+        if (file != null) {
+            String fromFile = readFile();
+            if (fromFile == null) throw new IllegalStateException("Não foi possível ler a tabela de taxas em " + file);
+            this.tiers = fromFile;
+        }
+        snapshot.set(Snapshot.build(this.tiers, 1, clock));
+    }
+
+    public static RateTable defaults() {
+        return new RateTable(DEFAULT_TIERS, null, null, Clock.systemDefaultZone());
+    }
+
+    public static RateTable of(String tiers, Clock clock) {
+        return new RateTable(tiers, null, null, clock);
+    }
+
+    /**
+     * Snapshot válido para o dia corrente. Na virada do dia as datas de corte são recalculadas com as mesmas taxas.
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (clock.millis() < current.validUntilMillis) return current;
+
+        Snapshot rolled = Snapshot.build(current.tiers, current.version, clock);
+        snapshot.compareAndSet(current, rolled);
+        return snapshot.get();
+    }
+
+    /**
+     * Substitui as faixas. Se a nova definição for inválida, o snapshot atual é mantido e a exceção é propagada.
+     * Recargas são serializadas, para que cada uma publique uma versão diferente.
+     */
+    public synchronized void reload(String newTiers) {
+        Snapshot current = snapshot.get();
+        Snapshot reloaded = Snapshot.build(newTiers, current.version + 1, clock);
+        tiers = newTiers;
+        snapshot.set(reloaded);
+        log.info("Tabela de taxas recarregada (versão {}): {}", reloaded.version, newTiers);
+        if (publisher != null) publisher.publishEvent(new RateTableReloadedEvent(this, reloaded.version));
+    }
+
+    @Scheduled(fixedDelayString = "${credit-simulator.rates.reload-interval:30s}")
+    public void reloadFromFileIfChanged() {
+        if (file == null) return;
+        try {
+            if (Files.getLastModifiedTime(file).toMillis() == fileLastModified) return;
+        } catch (IOException ex) {
+            log.warn("Não foi possível verificar a tabela de taxas em {}: {}", file, ex.getMessage());
+            return;
+        }
+
+        String fromFile = readFile();
+        if (fromFile == null || fromFile.equals(tiers)) return;
+        try {
+            reload(fromFile);
+        } catch (IllegalArgumentException ex) {
+            log.error("Tabela de taxas inválida em {}, mantendo a versão atual: {}", file, ex.getMessage());
+        }
+    }
+
+    private String readFile() {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            fileLastModified = Files.getLastModifiedTime(file).toMillis();
+            Properties properties = new Properties();
+            properties.load(reader);
+            return properties.getProperty("tiers", "").trim();
+        } catch (IOException ex) {
+            log.warn("Não foi possível ler a tabela de taxas em {}: {}", file, ex.getMessage());
+            return null;
+        }
+    }
+
+    public static BigDecimal toMonthlyInterestRate(BigDecimal annualInterestRate) {
+        return annualInterestRate.divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_EVEN);
+    }
+
+    public static final class Snapshot {
+
+        private final String tiers;
+        private final long version;
+        private final int[] maxAges;
+        private final BigDecimal[] annualRates;
+        private final BigDecimal[] monthlyRates;
+        private final AnnuityFactorTable annuityFactorTable;
+        private final FixedPointSimulationEngine fixedPointEngine;
+        private final LocalDate today;
+        private final long todayEpochDay;
+        private final long[] cutoffEpochDays;
+        private final long validUntilMillis;
+
+        private Snapshot(String tiers, long version, int[] maxAges, BigDecimal[] annualRates, Clock clock) {
+            this.tiers = tiers;
+            this.version = version;
+            this.maxAges = maxAges;
+            this.annualRates = annualRates;
+            this.monthlyRates = new BigDecimal[annualRates.length];
+            for (int i = 0; i < annualRates.length; i++) {
+                monthlyRates[i] = toMonthlyInterestRate(annualRates[i]);
+            }
+            this.annuityFactorTable = new AnnuityFactorTable(monthlyRates);
+            this.fixedPointEngine = new FixedPointSimulationEngine(annuityFactorTable);
+
+            ZoneId zone = clock.getZone();
+            this.today = LocalDate.now(clock);
+            this.todayEpochDay = today.toEpochDay();
+            this.validUntilMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+            // Quem nasceu depois de cutoffEpochDays[i] tem no máximo maxAges[i] anos hoje.
+            this.cutoffEpochDays = new long[maxAges.length];
+            for (int i = 0; i < maxAges.length; i++) {
+                cutoffEpochDays[i] = maxAges[i] == Integer.MAX_VALUE ? Long.MIN_VALUE : lastBirthDateOlderThan(maxAges[i]);
+            }
+        }
+
+        // Maior data de nascimento com idade > maxAge, conferida com Period para tratar 29 de fevereiro como calculateAge.
+        private long lastBirthDateOlderThan(int maxAge) {
+            LocalDate candidate = today.minusYears(maxAge + 1L).plusDays(2);
+            while (Period.between(candidate, today).getYears() <= maxAge) {
+                candidate = candidate.minusDays(1);
+            }
+            return candidate.toEpochDay();
+        }
+
+        static Snapshot build(String tiers, long version, Clock clock) {
+            if (!StringUtils.hasText(tiers)) throw new IllegalArgumentException("Nenhuma faixa de taxa configurada.");
+            String[] entries = tiers.split(",");
+            if (entries.length > MAX_TIERS) throw new IllegalArgumentException("No máximo " + MAX_TIERS + " faixas de taxa.");
+
+            int[] maxAges = new int[entries.length];
+            BigDecimal[] annualRates = new BigDecimal[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                String[] parts = entries[i].trim().split(":");
+                if (parts.length != 2) throw new IllegalArgumentException("Faixa inválida: " + entries[i].trim());
+                String maxAge = parts[0].trim();
+                maxAges[i] = "*".equals(maxAge) ? Integer.MAX_VALUE : Integer.parseInt(maxAge);
+                annualRates[i] = new BigDecimal(parts[1].trim());
+
+                if (annualRates[i].signum() <= 0) throw new IllegalArgumentException("A taxa deve ser positiva: " + entries[i].trim());
+                if (maxAges[i] < 0 || (i > 0 && maxAges[i] <= maxAges[i - 1])) {
+                    throw new IllegalArgumentException("As idades máximas das faixas devem ser crescentes: " + tiers);
+                }
+            }
+            if (maxAges[maxAges.length - 1] != Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("A última faixa deve ser '*' (sem idade máxima): " + tiers);
+            }
+            return new Snapshot(tiers, version, maxAges, annualRates, clock);
+        }
+
+        public int tierOf(LocalDate dateOfBirth) {
+            long birthEpochDay = dateOfBirth.toEpochDay();
+            if (birthEpochDay > todayEpochDay) throw new SimulationValidationException(SimulationValidationException.FUTURE_DATE_OF_BIRTH);
+            for (int i = 0; i < cutoffEpochDays.length; i++) {
+                if (birthEpochDay > cutoffEpochDays[i]) return i;
+            }
+            return cutoffEpochDays.length - 1;
+        }
+
+        public int tierOfAge(int age) {
+            if (age < 0) throw new SimulationValidationException(SimulationValidationException.NEGATIVE_AGE);
+            for (int i = 0; i < maxAges.length; i++) {
+                if (age <= maxAges[i]) return i;
+            }
+            return maxAges.length - 1;
+        }
+
+        public BigDecimal annualRate(int tier) {
+            return annualRates[tier];
+        }
+
+        public BigDecimal monthlyRate(int tier) {
+            return monthlyRates[tier];
+        }
+
+        public int size() {
+            return maxAges.length;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public LocalDate today() {
+            return today;
+        }
+
+        public long validUntilMillis() {
+            return validUntilMillis;
+        }
+
+        public AnnuityFactorTable annuityFactorTable() {
+            return annuityFactorTable;
+        }
+
+        public FixedPointSimulationEngine fixedPointEngine() {
+            return fixedPointEngine;
+        }
+    }
+}
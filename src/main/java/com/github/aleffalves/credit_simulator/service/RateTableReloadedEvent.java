@@ -0,0 +1,17 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import org.springframework.context.ApplicationEvent;
+
+public class RateTableReloadedEvent extends ApplicationEvent {
+
+    private final long version;
+
+    public RateTableReloadedEvent(RateTable source, long version) {
+        super(source);
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
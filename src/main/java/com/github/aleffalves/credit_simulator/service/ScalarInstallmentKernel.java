@@ -0,0 +1,16 @@
+package com.github.aleffalves.credit_simulator.service;
+
+final class ScalarInstallmentKernel implements InstallmentKernel {
+
+    @Override
+    public void installments(double[] principals, double[] factors, double[] installments, int length) {
+        for (int i = 0; i < length; i++) {
+            installments[i] = principals[i] * factors[i];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Cache limitado de resultados de simulação. A chave usa apenas o que altera o resultado (valor, faixa de taxa e
+ * prazo), então clientes de idades diferentes na mesma faixa compartilham entradas, e um aniversário que muda a
+ * faixa leva naturalmente a outra chave.
+ *
+ * <p>O cache guarda só os valores ({@link Result}, imutável) e devolve um {@link LoadSimulatorResponse} novo a cada
+ * chamada: a resposta é um bean mutável, e uma alteração feita por quem a recebeu não pode vazar para outra requisição.
+ */
+@Component
+public class SimulationCache {
+
+    private final Cache<Key, Result> cache;
+
+    @Autowired
+    public SimulationCache(@Value("${credit-simulator.cache.enabled:true}") boolean enabled,
+                           @Value("${credit-simulator.cache.max-size:10000}") long maxSize,
+                           MeterRegistry registry) {
+        if (!enabled || maxSize <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "simulation");
+    }
+
+    private SimulationCache() {
+        this.cache = null;
+    }
+
+    public static SimulationCache disabled() {
+        return new SimulationCache();
+    }
+
+    // A versão da tabela de taxas entra na chave para que um cálculo concorrente com a recarga não grave um valor antigo.
+    public LoadSimulatorResponse get(BigDecimal loanAmount, long ratesVersion, int rateTier, int paymentTermMonths,
+                                     Supplier<LoadSimulatorResponse> calculation) {
+        if (cache == null) return calculation.get();
+        return cache.get(new Key(normalize(loanAmount), ratesVersion, rateTier, paymentTermMonths),
+                key -> Result.of(calculation.get())).toResponse();
+    }
+
+    @EventListener(RateTableReloadedEvent.class)
+    public void invalidateAll() {
+        if (cache != null) cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache == null ? CacheStats.empty() : cache.stats();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    // 10000, 10000.0 e 10000.00 produzem exatamente a mesma resposta (juros com escala 2), então compartilham a chave.
+    static BigDecimal normalize(BigDecimal loanAmount) {
+        return loanAmount.scale() < 2 ? loanAmount.setScale(2) : loanAmount;
+    }
+
+    private record Key(BigDecimal loanAmount, long ratesVersion, int rateTier, int paymentTermMonths) {
+    }
+
+    private record Result(BigDecimal totalAmountPayable, BigDecimal monthlyInstallment, BigDecimal totalInterestPaid) {
+
+        static Result of(LoadSimulatorResponse response) {
+            return new Result(response.getTotalAmountPayable(), response.getMonthlyInstallment(), response.getTotalInterestPaid());
+        }
+
+        LoadSimulatorResponse toResponse() {
+            return new LoadSimulatorResponse(totalAmountPayable, monthlyInstallment, totalInterestPaid);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validadores HTTP da simulação via GET. No mesmo dia, a resposta depende só do valor, da faixa de taxa, da taxa
+ * mensal dessa faixa e do prazo, então o ETag é montado só com eles e pode ser conferido sem calcular a simulação. A
+ * taxa entra pelo valor, e não pela versão da tabela: a versão é local ao processo e recomeça em cada instância,
+ * enquanto instâncias com as mesmas taxas produzem o mesmo ETag e uma recarga que muda a taxa muda o ETag. A resposta
+ * vale até a meia-noite local, quando a idade, e com ela a faixa, pode mudar.
+ *
+ * <p>O ETag é forte, então identifica os bytes da representação: o formato negociado (JSON, CBOR ou Smile) entra no
+ * tag, para que um cliente ou cache não valide o corpo JSON com o ETag do corpo CBOR.
+ */
+@Component
+public class SimulationETags {
+
+    private final RateTable rateTable;
+
+    @Autowired
+    public SimulationETags(RateTable rateTable) {
+        this.rateTable = rateTable;
+    }
+
+    public Validity resolve(LoadSimulatorRequest request, MediaType format) {
+        RateTable.Snapshot rates = rateTable.current();
+        int rateTier = rates.tierOf(request.getDateOfBirth());
+        String eTag = "\"" + rateTier + "-" + rates.monthlyRate(rateTier).toPlainString() + "-" + request.getPaymentTermMonths()
+                + "-" + SimulationCache.normalize(request.getLoanAmount()).toPlainString() + "-" + format.getSubtype() + "\"";
+        return new Validity(eTag, rates.validUntilMillis());
+    }
+
+    /**
+     * ETag forte da resposta e o instante (epoch millis) até o qual ela pode ser reutilizada.
+     */
+    public record Validity(String eTag, long validUntilMillis) {
+    }
+}
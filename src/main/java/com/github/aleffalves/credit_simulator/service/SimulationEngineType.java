@@ -0,0 +1,6 @@
+package com.github.aleffalves.credit_simulator.service;
+
+public enum SimulationEngineType {
+    BIG_DECIMAL,
+    FIXED_POINT
+}
@@ -0,0 +1,442 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.SimulationJob;
+import com.github.aleffalves.credit_simulator.domain.SimulationJobChunk;
+import com.github.aleffalves.credit_simulator.domain.SimulationJobStatus;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobFailedException;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobNotFoundException;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobQueueFullException;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulações em lote assíncronas: o cliente envia os itens, recebe um identificador e consulta progresso e resultados
+ * depois, sem manter a conexão aberta durante o processamento.
+ *
+ * <p>Os jobs entram em uma fila limitada ({@code credit-simulator.jobs.queue-capacity}) atendida por um pool fixo de
+ * {@code credit-simulator.jobs.workers} threads. Com a fila cheia o envio é recusado com
+ * {@link SimulationJobQueueFullException} (429) em vez de acumular trabalho sem limite. Como um job pode ter até
+ * {@code max-items} itens, a fila também é limitada pelo total de itens retidos ({@code max-queued-items}): os itens
+ * são reservados à medida que o corpo é lido, e a reserva é devolvida conforme o worker os processa. Cada item é avaliado como no
+ * lote síncrono ({@link LoadSimulatorBatchService#evaluate(long, LoadSimulatorRequest)}), e os resultados são publicados em blocos
+ * de {@code chunk-size} à medida que ficam prontos. Jobs concluídos ficam disponíveis por {@code result-ttl}.
+ *
+ * <p>Os resultados ficam em memória até expirar, então os itens de todos os jobs retidos, na fila, em execução ou
+ * concluídos, também são limitados ({@code max-retained-items}). A reserva é feita na leitura, junto com a da fila, e
+ * só é devolvida quando o job é removido; enquanto os resultados antigos não expiram, novos envios recebem 429.
+ *
+ * <p>Na fila, os itens ficam em arrays primitivos ({@link Items}), e não como árvores JSON: com milhões de itens
+ * retidos, cada um ocupa cerca de 22 bytes.
+ */
+@Service
+public class SimulationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationJobService.class);
+
+    @Autowired
+    private LoadSimulatorBatchService loadSimulatorBatchService;
+
+    @Autowired
+    private WireFormats wireFormats;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${credit-simulator.jobs.workers:4}")
+    private int workers = 4;
+
+    @Value("${credit-simulator.jobs.queue-capacity:100}")
+    private int queueCapacity = 100;
+
+    @Value("${credit-simulator.jobs.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${credit-simulator.jobs.max-items:1000000}")
+    private int maxItems = 1_000_000;
+
+    @Value("${credit-simulator.jobs.max-queued-items:2000000}")
+    private long maxQueuedItems = 2_000_000;
+
+    @Value("${credit-simulator.jobs.max-retained-items:2000000}")
+    private long maxRetainedItems = 2_000_000;
+
+    @Value("${credit-simulator.jobs.result-ttl:15m}")
+    private Duration resultTtl = Duration.ofMinutes(15);
+
+    @Value("${credit-simulator.jobs.retry-after:5s}")
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // Itens lidos e ainda não processados, de todos os jobs na fila ou em execução.
+    private final AtomicLong queuedItems = new AtomicLong();
+    // Itens de todos os jobs ainda em memória, inclusive os concluídos que aguardam result-ttl.
+    private final AtomicLong retainedItems = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        if (maxQueuedItems < maxItems) {
+            throw new IllegalStateException("credit-simulator.jobs.max-queued-items (" + maxQueuedItems
+                    + ") deve ser pelo menos credit-simulator.jobs.max-items (" + maxItems + ").");
+        }
+        if (maxRetainedItems < maxItems) {
+            throw new IllegalStateException("credit-simulator.jobs.max-retained-items (" + maxRetainedItems
+                    + ") deve ser pelo menos credit-simulator.jobs.max-items (" + maxItems + ").");
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "simulation-job-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        if (meterRegistry != null) {
+            new ExecutorServiceMetrics(executor, "simulation.jobs", Tags.empty()).bindTo(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Lê os itens (array ou sequência, como no lote síncrono) e coloca o job na fila. A leitura acontece antes de
+     * responder, então o corpo da requisição não precisa ficar aberto durante o processamento. Cada item lido é
+     * reservado em {@code max-queued-items}; se a reserva se esgota no meio da leitura, o envio é recusado com 429 e
+     * o que já foi lido é descartado.
+     */
+    public SimulationJob submit(InputStream input, MediaType inputType) throws IOException {
+        // Recusa cedo, antes de ler um corpo que não teria onde ser processado.
+        if (executor.getQueue().remainingCapacity() == 0) throw queueFull();
+        if (queuedItems.get() >= maxQueuedItems) throw itemsFull();
+        if (retainedItems.get() >= maxRetainedItems) throw resultsFull();
+
+        Items items = readItems(input, inputType);
+        Job job = new Job(UUID.randomUUID().toString(), items, clock.instant());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            queuedItems.addAndGet(-items.size);
+            retainedItems.addAndGet(-items.size);
+            throw queueFull();
+        }
+        return status(job);
+    }
+
+    public SimulationJob status(String jobId) {
+        return status(find(jobId));
+    }
+
+    /**
+     * Devolve um bloco de resultados, ou {@code null} se o bloco existe mas ainda não foi processado. Se o job falhou
+     * antes de chegar ao bloco, ele nunca vai existir: {@link SimulationJobFailedException}.
+     */
+    public SimulationJobChunk chunk(String jobId, int chunk) {
+        Job job = find(jobId);
+        if (chunk < 0 || chunk >= job.totalChunks) {
+            throw new SimulationValidationException("Bloco inexistente: " + chunk + ". O job tem " + job.totalChunks + " blocos.");
+        }
+        // O status é lido antes dos blocos: um job FAILED já publicou todos os blocos que vai publicar.
+        SimulationJobStatus status = job.status;
+        if (chunk >= job.chunks.size()) {
+            if (status == SimulationJobStatus.FAILED) throw new SimulationJobFailedException(job.id, chunk, job.error);
+            return null;
+        }
+        return SimulationJobChunk.builder()
+                .jobId(job.id)
+                .chunk(chunk)
+                .totalChunks(job.totalChunks)
+                .results(Arrays.asList(job.chunks.get(chunk)))
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${credit-simulator.jobs.purge-interval:1m}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        jobs.values().removeIf(job -> {
+            if (!job.isExpired(now, resultTtl)) return false;
+            retainedItems.addAndGet(-job.items.size);
+            return true;
+        });
+    }
+
+    private void run(Job job) {
+        job.status = SimulationJobStatus.RUNNING;
+        int released = 0;
+        try {
+            Items items = job.items;
+            LoadSimulatorBatchResult[] results = new LoadSimulatorBatchResult[Math.min(chunkSize, items.size)];
+            int filled = 0;
+            for (int i = 0; i < items.size; i++) {
+                String error = items.error(i);
+                results[filled++] = error != null
+                        ? LoadSimulatorBatchResult.builder().index(i).error(error).build()
+                        : loadSimulatorBatchService.evaluate(i, items.request(i));
+                job.processed = i + 1;
+                if (filled == results.length || i == items.size - 1) {
+                    job.chunks.add(Arrays.copyOf(results, filled));
+                    queuedItems.addAndGet(-filled);
+                    released += filled;
+                    filled = 0;
+                }
+            }
+            job.finish(SimulationJobStatus.COMPLETED, null, clock.instant());
+        } catch (RuntimeException ex) {
+            log.error("Job {} falhou após {} itens", job.id, job.processed, ex);
+            job.finish(SimulationJobStatus.FAILED, "An unexpected error occurred", clock.instant());
+        } finally {
+            queuedItems.addAndGet(released - job.items.size);
+        }
+    }
+
+    private Items readItems(InputStream input, MediaType inputType) throws IOException {
+        ObjectMapper mapper = wireFormats.mapperFor(inputType);
+        Items items = new Items();
+        int reserved = 0;
+        boolean admitted = false;
+        try (MappingIterator<JsonNode> values = mapper.readerFor(JsonNode.class).readValues(input)) {
+            while (values.hasNextValue()) {
+                if (items.size == maxItems) {
+                    throw new SimulationValidationException("O job tem mais de " + maxItems + " itens.");
+                }
+                if (!reserve(queuedItems, maxQueuedItems)) throw itemsFull();
+                if (!reserve(retainedItems, maxRetainedItems)) {
+                    queuedItems.decrementAndGet();
+                    throw resultsFull();
+                }
+                reserved++;
+                add(items, mapper, values.nextValue());
+            }
+            if (items.size == 0) throw new SimulationValidationException("O job não tem itens.");
+            admitted = true;
+            items.trim();
+            return items;
+        } catch (JsonProcessingException ex) {
+            throw new SimulationValidationException("Corpo do job inválido: " + ex.getOriginalMessage());
+        } finally {
+            if (!admitted) {
+                queuedItems.addAndGet(-reserved);
+                retainedItems.addAndGet(-reserved);
+            }
+        }
+    }
+
+    // Um item que não vira request guarda só a mensagem de erro, a mesma do lote síncrono.
+    private static void add(Items items, ObjectMapper mapper, JsonNode item) {
+        try {
+            items.add(mapper.treeToValue(item, LoadSimulatorRequest.class));
+        } catch (JsonProcessingException ex) {
+            items.addError(ex.getOriginalMessage());
+        }
+    }
+
+    private static boolean reserve(AtomicLong items, long limit) {
+        long current;
+        do {
+            current = items.get();
+            if (current >= limit) return false;
+        } while (!items.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Job find(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.isExpired(clock.instant(), resultTtl)) throw new SimulationJobNotFoundException(jobId);
+        return job;
+    }
+
+    private SimulationJob status(Job job) {
+        long processed = job.processed;
+        Instant completedAt = job.completedAt;
+        return SimulationJob.builder()
+                .jobId(job.id)
+                .status(job.status)
+                .totalItems(job.items.size)
+                .processedItems(processed)
+                .progress(Math.floor(processed * 1000.0 / job.items.size) / 10)
+                .chunkSize(chunkSize)
+                .totalChunks(job.totalChunks)
+                .availableChunks(job.chunks.size())
+                .submittedAt(toLocalDateTime(job.submittedAt))
+                .completedAt(completedAt == null ? null : toLocalDateTime(completedAt))
+                .expiresAt(completedAt == null ? null : toLocalDateTime(completedAt.plus(resultTtl)))
+                .error(job.error)
+                .build();
+    }
+
+    private SimulationJobQueueFullException queueFull() {
+        return new SimulationJobQueueFullException(queueCapacity, Math.max(1, retryAfter.toSeconds()));
+    }
+
+    private SimulationJobQueueFullException itemsFull() {
+        return new SimulationJobQueueFullException("A fila de jobs está cheia (" + maxQueuedItems
+                + " itens aguardando processamento). Tente novamente mais tarde.", Math.max(1, retryAfter.toSeconds()));
+    }
+
+    private SimulationJobQueueFullException resultsFull() {
+        return new SimulationJobQueueFullException("Há resultados demais aguardando consulta (" + maxRetainedItems
+                + " itens em jobs recentes). Tente novamente mais tarde.", Math.max(1, retryAfter.toSeconds()));
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+
+    private final class Job {
+        final String id;
+        final Items items;
+        final int totalChunks;
+        final Instant submittedAt;
+        final List<LoadSimulatorBatchResult[]> chunks = new CopyOnWriteArrayList<>();
+        volatile SimulationJobStatus status = SimulationJobStatus.QUEUED;
+        volatile long processed;
+        volatile Instant completedAt;
+        volatile String error;
+
+        Job(String id, Items items, Instant submittedAt) {
+            this.id = id;
+            this.items = items;
+            this.totalChunks = (items.size + chunkSize - 1) / chunkSize;
+            this.submittedAt = submittedAt;
+        }
+
+        void finish(SimulationJobStatus finalStatus, String failure, Instant now) {
+            error = failure;
+            completedAt = now;
+            status = finalStatus;
+        }
+
+        boolean isExpired(Instant now, Duration ttl) {
+            Instant finished = completedAt;
+            return finished != null && !now.isBefore(finished.plus(ttl));
+        }
+    }
+
+    /**
+     * Itens de um job: valor (não escalado e escala), data de nascimento em epoch day, prazo e os campos ausentes, um
+     * array de cada. Os arrays crescem durante a leitura e são ajustados ao tamanho final antes de o job entrar na
+     * fila. Campos ausentes continuam ausentes no request remontado, para que a validação dê a mesma mensagem. Valores
+     * que não cabem em um {@code long} com escala de um byte, raros, ficam como {@link BigDecimal} à parte e são
+     * simulados como no lote síncrono.
+     */
+    private static final class Items {
+        private static final byte NO_AMOUNT = 1;
+        private static final byte NO_DATE_OF_BIRTH = 2;
+        private static final byte NO_PAYMENT_TERM = 4;
+
+        private long[] unscaledAmounts = new long[16];
+        private byte[] amountScales = new byte[16];
+        private long[] birthEpochDays = new long[16];
+        private int[] paymentTerms = new int[16];
+        private byte[] missing = new byte[16];
+        private final Map<Integer, String> errors = new HashMap<>();
+        private final Map<Integer, BigDecimal> largeAmounts = new HashMap<>();
+        int size;
+
+        void add(LoadSimulatorRequest request) {
+            BigDecimal amount = request.getLoanAmount();
+            ensureCapacity();
+            byte absent = 0;
+            if (amount == null) {
+                absent |= NO_AMOUNT;
+            } else if (amount.unscaledValue().bitLength() > 63 || amount.scale() != (byte) amount.scale()) {
+                largeAmounts.put(size, amount);
+            } else {
+                unscaledAmounts[size] = amount.unscaledValue().longValue();
+                amountScales[size] = (byte) amount.scale();
+            }
+            if (request.getDateOfBirth() == null) {
+                absent |= NO_DATE_OF_BIRTH;
+            } else {
+                birthEpochDays[size] = request.getDateOfBirth().toEpochDay();
+            }
+            if (request.getPaymentTermMonths() == null) {
+                absent |= NO_PAYMENT_TERM;
+            } else {
+                paymentTerms[size] = request.getPaymentTermMonths();
+            }
+            missing[size++] = absent;
+        }
+
+        void addError(String message) {
+            ensureCapacity();
+            errors.put(size++, message);
+        }
+
+        String error(int index) {
+            return errors.isEmpty() ? null : errors.get(index);
+        }
+
+        LoadSimulatorRequest request(int index) {
+            byte absent = missing[index];
+            BigDecimal largeAmount = largeAmounts.isEmpty() ? null : largeAmounts.get(index);
+            return new LoadSimulatorRequest(
+                    (absent & NO_AMOUNT) != 0 ? null
+                            : largeAmount != null ? largeAmount : BigDecimal.valueOf(unscaledAmounts[index], amountScales[index]),
+                    (absent & NO_DATE_OF_BIRTH) != 0 ? null : LocalDate.ofEpochDay(birthEpochDays[index]),
+                    (absent & NO_PAYMENT_TERM) != 0 ? null : paymentTerms[index]);
+        }
+
+        void trim() {
+            resize(size);
+        }
+
+        private void ensureCapacity() {
+            if (size == paymentTerms.length) resize(size * 2);
+        }
+
+        private void resize(int capacity) {
+            unscaledAmounts = Arrays.copyOf(unscaledAmounts, capacity);
+            amountScales = Arrays.copyOf(amountScales, capacity);
+            birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+            paymentTerms = Arrays.copyOf(paymentTerms, capacity);
+            missing = Arrays.copyOf(missing, capacity);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versão SIMD do kernel. A multiplicação por lane segue o IEEE 754 exatamente como a operação escalar,
+ * então o resultado é bit a bit igual ao do {@link ScalarInstallmentKernel}. Só é carregada quando o módulo
+ * {@code jdk.incubator.vector} está presente ({@code --add-modules jdk.incubator.vector}), por reflexão em
+ * {@link BulkInstallmentCalculator#vectorKernel()}; é a única classe compilada com o módulo da incubadora.
+ */
+final class VectorInstallmentKernel implements InstallmentKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void installments(double[] principals, double[] factors, double[] installments, int length) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector pv = DoubleVector.fromArray(SPECIES, principals, i);
+            DoubleVector factor = DoubleVector.fromArray(SPECIES, factors, i);
+            pv.mul(factor).intoArray(installments, i);
+        }
+        for (; i < length; i++) {
+            installments[i] = principals[i] * factors[i];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.util.List;
+
+/**
+ * Escolhe o {@link ObjectMapper} de cada formato para os endpoints que escrevem a resposta diretamente no stream
+ * (lote e cronograma), onde a negociação dos {@code HttpMessageConverter}s não se aplica.
+ */
+@Component
+public class WireFormats {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    public ObjectMapper mapperFor(MediaType mediaType) {
+        if (mediaType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) return cborConverter.getObjectMapper();
+        if (mediaType != null && APPLICATION_SMILE.isCompatibleWith(mediaType)) return smileConverter.getObjectMapper();
+        return objectMapper;
+    }
+
+    public static boolean isBinary(ObjectMapper mapper) {
+        return mapper.getFactory().canHandleBinaryNatively();
+    }
+
+    /**
+     * Primeiro dos {@code candidates} aceito pelo cabeçalho {@code Accept}; sem cabeçalho, o primeiro candidato. Se o
+     * cliente não aceita nenhum deles, lança {@link HttpMediaTypeNotAcceptableException} (406) em vez de responder
+     * em um formato que ele recusou.
+     */
+    public static MediaType negotiate(String accept, MediaType... candidates) throws HttpMediaTypeNotAcceptableException {
+        if (!StringUtils.hasText(accept)) return candidates[0];
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType acceptedType : accepted) {
+            for (MediaType candidate : candidates) {
+                if (acceptedType.includes(candidate)) return candidate;
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(List.of(candidates));
+    }
+}
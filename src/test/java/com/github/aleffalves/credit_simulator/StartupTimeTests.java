@@ -0,0 +1,140 @@
+package com.github.aleffalves.credit_simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede, em uma JVM nova, o tempo entre iniciar o processo e a primeira resposta 200 de {@code POST /load-simulator},
+ * que é o que atrasa um pod novo no autoscaling. Roda no {@code verify} do perfil fast-startup, contra o jar da imagem
+ * extraído e com o arquivo CDS gerado a partir dele ({@code -Dstartup.jar} e {@code -Dstartup.jvm-args}, preenchidos
+ * pelo pom), com o perfil prod e AOT ligado.
+ *
+ * <p>O mesmo jar também é iniciado sem {@code startup.jvm-args} (sem AOT nem CDS), alternando com as execuções
+ * otimizadas, {@code -Dstartup.runs} vezes cada (padrão 3); vale a mediana de cada um. Como as duas medidas saem da
+ * mesma máquina, a comparação vale em qualquer ambiente: o teste falha se o jar otimizado não for pelo menos
+ * {@code startup.min-gain} (0.2 = 20%) mais rápido que a referência. O resultado é gravado em
+ * {@code target/startup-time.json}.
+ *
+ * <p>Com {@code -Dstartup.baseline=<arquivo>}, a mediana também é comparada com uma linha de base gravada no mesmo
+ * ambiente (uma cópia de {@code target/startup-time.json}): falha se passar dela em mais de {@code startup.tolerance}
+ * (0.2 = 20%) e {@code startup.slack-millis} (200).
+ */
+@Tag("startup")
+public class StartupTimeTests {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void timeToFirstSimulation_ShouldBeatSameJarWithoutAotAndCds() throws Exception {
+        String jar = System.getProperty("startup.jar", "");
+        assertFalse(jar.isBlank(), "Informe o jar em -Dstartup.jar ou rode mvn -Pfast-startup verify");
+
+        String jvmArgs = System.getProperty("startup.jvm-args", "");
+        int runs = Integer.getInteger("startup.runs", 3);
+        long[] millis = new long[runs];
+        long[] referenceMillis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            referenceMillis[i] = timeToFirstSimulation(jar, "");
+            millis[i] = timeToFirstSimulation(jar, jvmArgs);
+        }
+        StartupReport report = StartupReport.of(millis, StartupReport.of(referenceMillis, null));
+        Files.createDirectories(Path.of("target"));
+        mapper.writeValue(Path.of("target", "startup-time.json").toFile(), report);
+
+        double minGain = Double.parseDouble(System.getProperty("startup.min-gain", "0.2"));
+        long limit = (long) (report.reference().medianMillis() * (1 - minGain));
+        assertTrue(report.medianMillis() <= limit, "Primeira resposta em " + report.medianMillis()
+                + " ms (mediana de " + Arrays.toString(millis) + "); sem " + jvmArgs + " foi em "
+                + report.reference().medianMillis() + " ms (mediana de " + Arrays.toString(referenceMillis)
+                + ") e o limite, " + limit + " ms");
+
+        String baselineFile = System.getProperty("startup.baseline", "");
+        if (!baselineFile.isBlank()) {
+            StartupReport baseline = mapper.readValue(Path.of(baselineFile).toFile(), StartupReport.class);
+            double tolerance = Double.parseDouble(System.getProperty("startup.tolerance", "0.2"));
+            long allowed = (long) (baseline.medianMillis() * (1 + tolerance)) + Long.getLong("startup.slack-millis", 200);
+            assertTrue(report.medianMillis() <= allowed, "Primeira resposta em " + report.medianMillis()
+                    + " ms (mediana de " + Arrays.toString(millis) + "); a linha de base é " + baseline.medianMillis()
+                    + " ms e o limite, " + allowed + " ms");
+        }
+    }
+
+    private long timeToFirstSimulation(String jar, String jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isBlank()) command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        command.add("-Dspring.profiles.active=prod");
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+
+        Path log = Path.of("target", "startup-prod.log");
+        Files.createDirectories(log.getParent());
+        URI uri = URI.create("http://localhost:" + port + "/api/load-simulator");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(5))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"loanAmount\": 15000.00, \"dateOfBirth\": \""
+                        + LocalDate.now().minusYears(35) + "\", \"paymentTermMonths\": 24}"))
+                .build();
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) throw new IllegalStateException("A aplicação terminou antes de responder; veja " + log);
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException ex) {
+                    // Porta ainda fechada: a aplicação não terminou de subir.
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("Sem resposta em " + TIMEOUT.toSeconds() + " s; veja " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // reference: o mesmo jar sem startup.jvm-args; nulo na própria referência.
+    record StartupReport(long medianMillis, long[] runsMillis, StartupReport reference) {
+        static StartupReport of(long[] millis, StartupReport reference) {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            return new StartupReport(sorted[sorted.length / 2], millis, reference);
+        }
+    }
+}
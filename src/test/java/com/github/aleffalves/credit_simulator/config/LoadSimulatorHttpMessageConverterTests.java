@@ -0,0 +1,125 @@
+package com.github.aleffalves.credit_simulator.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadSimulatorHttpMessageConverterTests {
+
+    // Mesma configuração do ObjectMapper criado pelo Spring Boot
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final LoadSimulatorHttpMessageConverter converter = new LoadSimulatorHttpMessageConverter(
+            Map.of(MediaType.APPLICATION_JSON, new JsonFactory()), RateTable.defaults());
+
+    @Test
+    void readAndWrite_ShouldMatchJackson_ForRandomPayloads() throws IOException {
+        SplittableRandom random = new SplittableRandom(12L);
+        LoadSimulatorService service = StandaloneServices.loadSimulatorService();
+
+        for (int i = 0; i < 10_000; i++) {
+            LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                    .loanAmount(BigDecimal.valueOf(1 + random.nextLong(100_000_000L), random.nextInt(4)))
+                    .dateOfBirth(LocalDate.now().minusYears(18 + random.nextInt(70)).minusDays(random.nextInt(365)))
+                    .paymentTermMonths(1 + random.nextInt(480))
+                    .build();
+            byte[] requestJson = objectMapper.writeValueAsBytes(request);
+            assertEquals(objectMapper.readValue(requestJson, LoadSimulatorRequest.class), read(requestJson));
+
+            LoadSimulatorResponse response = service.simulate(request);
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(response, MediaType.APPLICATION_JSON, output);
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), output.getBodyAsBytes());
+        }
+    }
+
+    @Test
+    void write_ShouldFlushWithoutClosingResponseStream() throws IOException {
+        LoadSimulatorResponse response = StandaloneServices.loadSimulatorService().simulate(LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal("10000"))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build());
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream body = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        HttpHeaders headers = new HttpHeaders();
+        converter.write(response, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+
+        assertFalse(closed[0], "O stream da resposta é do container e não deve ser fechado pelo converter");
+        assertTrue(body.size() > 0);
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), body.toByteArray());
+    }
+
+    @Test
+    void read_ShouldAcceptJacksonCoercions() throws IOException {
+        LoadSimulatorRequest request = read("""
+                {"paymentTermMonths": "24", "dateOfBirth": [1988, 10, 25], "loanAmount": "15000.00", "extra": [1, {"a": 2}]}
+                """.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new BigDecimal("15000.00"), request.getLoanAmount());
+        assertEquals(LocalDate.of(1988, 10, 25), request.getDateOfBirth());
+        assertEquals(24, request.getPaymentTermMonths());
+    }
+
+    @Test
+    void read_ShouldRejectMalformedPayloads() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("[1, 2]".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"loanAmount\": {}}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"dateOfBirth\": \"25/10/1988\"}".getBytes(StandardCharsets.UTF_8)));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> read("{}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("A data de nascimento não pode ser nula. O prazo de pagamento não pode ser nulo. O valor do empréstimo não pode ser nulo.",
+                ex.getMessage());
+        assertFalse(converter.canRead(LoadSimulatorResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    private LoadSimulatorRequest read(byte[] body) throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return (LoadSimulatorRequest) converter.read(LoadSimulatorRequest.class, input);
+    }
+}
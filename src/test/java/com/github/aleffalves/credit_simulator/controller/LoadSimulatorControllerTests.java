@@ -1,20 +1,37 @@
 package com.github.aleffalves.credit_simulator.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
 import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.SimulationCache;
+import com.github.aleffalves.credit_simulator.service.WireFormats;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.hibernate.validator.internal.util.Contracts.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,8 +46,11 @@ public class LoadSimulatorControllerTests {
     @Autowired
     private LoadSimulatorService loadSimulatorService;
 
-    @InjectMocks
-    private LoadSimulatorService loadSimulatorServiceMock;
+    @Autowired
+    private WireFormats wireFormats;
+
+    @Autowired
+    private SimulationCache simulationCache;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -103,6 +123,512 @@ public class LoadSimulatorControllerTests {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    void simulate_ShouldReturnValidationMessages_InErrorContract() throws Exception {
+        mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmount\": 0, \"paymentTermMonths\": 12, \"channel\": {\"id\": 1}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.message").value(
+                        "A data de nascimento não pode ser nula. O valor do empréstimo deve ser positivo."));
+
+        mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmount\": \"15000.00\", \"dateOfBirth\": \"" + LocalDate.now() + "\", \"paymentTermMonths\": 12}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A data de nascimento deve ser no passado."));
+    }
+
+    @Test
+    void simulate_ShouldValidate_WhenContentTypeIsJsonSubtype() throws Exception {
+        // Subtipos +json também passam pela leitura com validação, e não pelo Jackson sem @Valid.
+        for (String contentType : List.of("application/problem+json", "application/vnd.api+json")) {
+            mockMvc.perform(post("/load-simulator")
+                            .contentType(contentType)
+                            .content("{\"paymentTermMonths\": 12}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400))
+                    .andExpect(jsonPath("$.message").value(
+                            "A data de nascimento não pode ser nula. O valor do empréstimo não pode ser nulo."));
+
+            mockMvc.perform(post("/load-simulator/schedule")
+                            .contentType(contentType)
+                            .content("{\"paymentTermMonths\": 12}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+
+            mockMvc.perform(post("/load-simulator")
+                            .contentType(contentType)
+                            .content("{\"loanAmount\": 10000, \"dateOfBirth\": \"" + LocalDate.now().minusYears(30) + "\", \"paymentTermMonths\": 12}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.monthlyInstallment").value(846.94));
+        }
+    }
+
+    @Test
+    void simulate_ShouldKeepErrorContract_ForPrecomputedAndDynamicMessages() throws Exception {
+        String known = mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmount\": 1000, \"dateOfBirth\": \"" + LocalDate.now().plusDays(1) + "\", \"paymentTermMonths\": 12}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertErrorContract(objectMapper.readTree(known), LoadSimulatorRequest.DATE_OF_BIRTH_NOT_PAST);
+
+        String dynamic = mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmounts\": [1000], \"paymentTermsMonths\": [12], \"rateTiers\": [9]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        JsonNode dynamicBody = objectMapper.readTree(dynamic);
+        assertErrorContract(dynamicBody, dynamicBody.get("message").asText());
+        assertTrue(dynamicBody.get("message").asText().contains("9"), "Mensagem deve citar a faixa desconhecida");
+
+        byte[] cbor = mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content("{\"loanAmount\": 1000, \"dateOfBirth\": \"" + LocalDate.now().plusDays(1) + "\", \"paymentTermMonths\": 12}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertErrorContract(wireFormats.mapperFor(MediaType.APPLICATION_CBOR).readTree(cbor), LoadSimulatorRequest.DATE_OF_BIRTH_NOT_PAST);
+    }
+
+    private static void assertErrorContract(JsonNode body, String message) {
+        assertEquals(3, body.size());
+        assertEquals(message, body.get("message").asText());
+        assertEquals(400, body.get("status").asInt());
+        LocalDateTime.parse(body.get("timestamp").asText());
+    }
+
+    @Test
+    void simulateGet_ShouldReturnCacheableResponse_AndNotModifiedWithoutSimulating() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        MvcResult first = mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyInstallment").value(846.94))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.EXPIRES))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, startsWith("max-age=")))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""), "ETag deve ser forte: " + eTag);
+
+        // Mesmo valor com outra escala e mesma faixa de taxa: mesma resposta, mesmo ETag.
+        mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000.00")
+                        .param("dateOfBirth", LocalDate.now().minusYears(35).toString())
+                        .param("paymentTermMonths", "12"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        long requests = simulationCache.stats().requestCount();
+        mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andExpect(content().string(""));
+        assertEquals(requests, simulationCache.stats().requestCount());
+
+        mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", LocalDate.now().minusYears(50).toString())
+                        .param("paymentTermMonths", "12")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void simulateGet_ShouldUseDifferentETagPerWireFormat() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        String jsonETag = mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // O corpo CBOR tem outros bytes: o ETag do JSON não pode validá-lo.
+        MvcResult cbor = mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        String cborETag = cbor.getResponse().getHeader(HttpHeaders.ETAG);
+        assertTrue(!jsonETag.equals(cborETag), "JSON e CBOR com o mesmo ETag: " + cborETag);
+        assertEquals(846.94, wireFormats.mapperFor(MediaType.APPLICATION_CBOR)
+                .readTree(cbor.getResponse().getContentAsByteArray()).get("monthlyInstallment").asDouble());
+
+        mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void simulate_ShouldReturnNotAcceptable_WhenNoWireFormatIsAccepted() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "10000")
+                        .param("dateOfBirth", dob)
+                        .param("paymentTermMonths", "12")
+                        .accept(MediaType.valueOf("text/csv")))
+                .andExpect(status().isNotAcceptable());
+
+        mockMvc.perform(post("/load-simulator/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.valueOf("text/csv"))
+                        .content("{\"loanAmount\": 10000, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 12}"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void simulateGet_ShouldKeepErrorContract_WhenParametersAreInvalid() throws Exception {
+        String body = mockMvc.perform(get("/load-simulator")
+                        .param("loanAmount", "0")
+                        .param("paymentTermMonths", "12"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertErrorContract(objectMapper.readTree(body),
+                "A data de nascimento não pode ser nula. O valor do empréstimo deve ser positivo.");
+    }
+
+    @Test
+    void simulateBatch_ShouldStreamResultsInOrder_WithPerItemErrors() throws Exception {
+        LoadSimulatorRequest valid = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+        LoadSimulatorRequest futureDob = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().plusYears(1))
+                .paymentTermMonths(12)
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/load-simulator/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, futureDob, valid))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(0, objectMapper.readTree(lines[0]).get("index").asInt());
+        assertEquals(new BigDecimal("846.94"), objectMapper.readTree(lines[0]).at("/result/monthlyInstallment").decimalValue());
+        assertEquals(1, objectMapper.readTree(lines[1]).get("index").asInt());
+        assertTrue(objectMapper.readTree(lines[1]).has("error"), "O item inválido deveria retornar erro");
+        assertEquals(2, objectMapper.readTree(lines[2]).get("index").asInt());
+    }
+
+    @Test
+    void simulateBatch_ShouldAcceptNdjson() throws Exception {
+        LoadSimulatorRequest valid = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+        String ndjson = objectMapper.writeValueAsString(valid) + "\n"
+                + "{\"loanAmount\": 0, \"dateOfBirth\": \"1990-01-01\", \"paymentTermMonths\": 12}\n";
+
+        MvcResult result = mockMvc.perform(post("/load-simulator/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(objectMapper.readTree(lines[0]).has("result"), "O primeiro item deveria ser simulado");
+        assertEquals("O valor do empréstimo deve ser positivo.", objectMapper.readTree(lines[1]).get("error").asText());
+    }
+
+    @Test
+    void simulate_ShouldNegotiateCbor_WithMoneyAsDecimalFraction() throws Exception {
+        ObjectMapper cbor = wireFormats.mapperFor(MediaType.APPLICATION_CBOR);
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal("10000.00"))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        byte[] body = mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertTrue(body.length < objectMapper.writeValueAsBytes(loadSimulatorService.simulate(request)).length,
+                "CBOR deveria ser menor que o JSON");
+        try (JsonParser parser = cbor.createParser(body)) {
+            int decimals = 0;
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token.isNumeric()) {
+                    // Fração decimal: o valor é lido como BigDecimal, nunca como double.
+                    assertEquals(JsonParser.NumberType.BIG_DECIMAL, parser.getNumberType());
+                    decimals++;
+                }
+            }
+            assertEquals(3, decimals);
+        }
+        // Tag 4 seguida de um array de dois itens [expoente, mantissa]: 0xC4 0x82.
+        int decimalFractions = 0;
+        for (int i = 0; i + 1 < body.length; i++) {
+            if ((body[i] & 0xFF) == 0xC4 && (body[i + 1] & 0xFF) == 0x82) decimalFractions++;
+        }
+        assertEquals(3, decimalFractions);
+        assertEquals(new BigDecimal("846.94"), cbor.readTree(body).get("monthlyInstallment").decimalValue());
+    }
+
+    @Test
+    void simulateBatch_ShouldAcceptAndReturnSmileSequence() throws Exception {
+        ObjectMapper smile = wireFormats.mapperFor(WireFormats.APPLICATION_SMILE);
+        LoadSimulatorRequest valid = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+        LoadSimulatorRequest invalid = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(-1))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/load-simulator/batch")
+                        .contentType(WireFormats.APPLICATION_SMILE)
+                        .accept(WireFormats.APPLICATION_SMILE)
+                        .content(smile.writeValueAsBytes(List.of(valid, invalid, valid))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormats.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<JsonNode> items = new ArrayList<>();
+        try (MappingIterator<JsonNode> it = smile.readerFor(JsonNode.class).readValues(body)) {
+            it.forEachRemaining(items::add);
+        }
+        assertEquals(3, items.size());
+        assertEquals(new BigDecimal("846.94"), items.get(0).at("/result/monthlyInstallment").decimalValue());
+        assertEquals("O valor do empréstimo deve ser positivo.", items.get(1).get("error").asText());
+        assertEquals(2, items.get(2).get("index").asInt());
+    }
+
+    @Test
+    void schedule_ShouldNegotiateCbor() throws Exception {
+        ObjectMapper cbor = wireFormats.mapperFor(MediaType.APPLICATION_CBOR);
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        MvcResult result = mockMvc.perform(post("/load-simulator/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode rows = cbor.readTree(body);
+        assertEquals(12, rows.size());
+        assertEquals(new BigDecimal("846.94"), rows.get(0).get("installment").decimalValue());
+    }
+
+    @Test
+    void schedule_ShouldReturnPriceRows_EndingWithZeroBalance() throws Exception {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        JsonNode rows = performSchedule(request, "PRICE");
+
+        assertEquals(12, rows.size());
+        assertAmount(new BigDecimal("846.94"), rows.get(0).get("installment").decimalValue());
+        assertAmount(new BigDecimal("25.00"), rows.get(0).get("interest").decimalValue());
+        assertAmount(BigDecimal.ZERO.setScale(2), rows.get(11).get("balance").decimalValue());
+        assertAmount(new BigDecimal("10000.00"), sum(rows, "amortization"));
+    }
+
+    @Test
+    void schedule_ShouldReturnSacRows_WithConstantAmortization() throws Exception {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(12000))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        JsonNode rows = performSchedule(request, "SAC");
+
+        assertEquals(12, rows.size());
+        assertAmount(new BigDecimal("1030.00"), rows.get(0).get("installment").decimalValue());
+        assertAmount(new BigDecimal("1000.00"), rows.get(5).get("amortization").decimalValue());
+        assertAmount(new BigDecimal("1002.50"), rows.get(11).get("installment").decimalValue());
+        assertAmount(new BigDecimal("12000.00"), sum(rows, "amortization"));
+    }
+
+    @Test
+    void schedule_ShouldNotOverflow_WhenBalanceTimesRateExceedsLong() throws Exception {
+        // 10^18 centavos × 25 (0,25% em décimos de milésimo) passa de Long.MAX_VALUE.
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal("10000000000000000"))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        JsonNode rows = performSchedule(request, "SAC");
+
+        assertEquals(12, rows.size());
+        assertAmount(new BigDecimal("25000000000000.00"), rows.get(0).get("interest").decimalValue());
+        assertAmount(BigDecimal.ZERO.setScale(2), rows.get(11).get("balance").decimalValue());
+        assertAmount(new BigDecimal("10000000000000000.00"), sum(rows, "amortization"));
+    }
+
+    @Test
+    void schedule_ShouldReturnBadRequest_WhenLoanAmountIsTooLarge() throws Exception {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal("1e20"))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        mockMvc.perform(post("/load-simulator/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE_FOR_SCHEDULE));
+    }
+
+    @Test
+    void schedule_ShouldReturnBadRequest_WhenDateOfBirthIsInFuture() throws Exception {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(10000))
+                .dateOfBirth(LocalDate.now().plusYears(1))
+                .paymentTermMonths(12)
+                .build();
+
+        mockMvc.perform(post("/load-simulator/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void simulateGrid_ShouldReturnEveryCombination() throws Exception {
+        String body = """
+                {"loanAmounts": [10000, 15000.00], "paymentTermsMonths": [12, 24, 36], "rateTiers": [1, 3]}
+                """;
+
+        String content = mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        JsonNode cells = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(content);
+
+        assertEquals(12, cells.size());
+        JsonNode first = cells.get(0);
+        assertEquals(12, first.get("paymentTermMonths").asInt());
+        assertEquals(1, first.get("rateTier").asInt());
+        assertAmount(new BigDecimal("846.94"), first.get("monthlyInstallment").decimalValue());
+        assertAmount(new BigDecimal("163.28"), first.get("totalInterestPaid").decimalValue());
+    }
+
+    @Test
+    void simulateGrid_ShouldReturnBadRequest_WhenAxisIsEmptyOrTierIsUnknown() throws Exception {
+        mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmounts\": [], \"paymentTermsMonths\": [12]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmounts\": [-1], \"paymentTermsMonths\": [12]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmounts\": [1000], \"paymentTermsMonths\": [12], \"rateTiers\": [9]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void simulateGrid_ShouldReturnBadRequest_WhenLoanAmountExceedsCalculationLimit() throws Exception {
+        mockMvc.perform(post("/load-simulator/grid")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmounts\": [1000, 1e20], \"paymentTermsMonths\": [12]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE));
+    }
+
+    private JsonNode performSchedule(LoadSimulatorRequest request, String system) throws Exception {
+        MvcResult result = mockMvc.perform(post("/load-simulator/schedule")
+                        .param("system", system)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(body);
+    }
+
+    private static void assertAmount(BigDecimal expected, BigDecimal actual) {
+        assertEquals(0, expected.compareTo(actual), "esperado " + expected + " mas foi " + actual);
+    }
+
+    private static BigDecimal sum(JsonNode rows, String field) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (JsonNode row : rows) total = total.add(row.get(field).decimalValue());
+        return total;
+    }
+
     @Test
     void shouldProcess_1000Simulations_InLessThan_TwoSeconds() throws Exception {
         int numSimulations = 1000;
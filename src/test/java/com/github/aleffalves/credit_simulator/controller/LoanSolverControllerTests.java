@@ -0,0 +1,73 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class LoanSolverControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void solve_ShouldReturnMaxLoanAmount() throws Exception {
+        String dob = LocalDate.now().minusYears(35).toString();
+        mockMvc.perform(post("/load-simulator/solve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"target\": \"MAX_LOAN_AMOUNT\", \"dateOfBirth\": \"" + dob + "\", \"monthlyInstallment\": 650.00, \"paymentTermMonths\": 24}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.target").value("MAX_LOAN_AMOUNT"))
+                .andExpect(jsonPath("$.loanAmount").isNumber())
+                .andExpect(jsonPath("$.paymentTermMonths").value(24))
+                .andExpect(jsonPath("$.rateTier").value(1))
+                .andExpect(jsonPath("$.effectiveAnnualCost").isNumber());
+    }
+
+    @Test
+    void solve_ShouldReturnBadRequest_WhenTargetIsMissing() throws Exception {
+        mockMvc.perform(post("/load-simulator/solve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dateOfBirth\": \"1988-10-25\", \"monthlyInstallment\": 650.00, \"paymentTermMonths\": 24}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void solve_ShouldReturnBadRequest_WhenLoanAmountIsTooLarge() throws Exception {
+        String dob = LocalDate.now().minusYears(35).toString();
+        mockMvc.perform(post("/load-simulator/solve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"target\": \"EFFECTIVE_COST\", \"dateOfBirth\": \"" + dob + "\", \"loanAmount\": 1e20, \"paymentTermMonths\": 24}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE));
+    }
+
+    @Test
+    void solveAll_ShouldReturnOneResultPerItem_InOrder() throws Exception {
+        String dob = LocalDate.now().minusYears(35).toString();
+        mockMvc.perform(post("/load-simulator/solve/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"target\": \"MAX_LOAN_AMOUNT\", \"dateOfBirth\": \"" + dob + "\", \"monthlyInstallment\": 650.00, \"paymentTermMonths\": 36},"
+                                + "{\"target\": \"MIN_PAYMENT_TERM\", \"dateOfBirth\": \"" + dob + "\", \"monthlyInstallment\": 10.00, \"loanAmount\": 15000.00},"
+                                + "{\"target\": \"EFFECTIVE_COST\", \"dateOfBirth\": \"" + dob + "\", \"loanAmount\": -1, \"paymentTermMonths\": 24},"
+                                + "{\"target\": \"EFFECTIVE_COST\", \"dateOfBirth\": \"" + dob + "\", \"loanAmount\": 15000.00, \"paymentTermMonths\": 24, \"upfrontFees\": 150.00}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].result.paymentTermMonths").value(36))
+                .andExpect(jsonPath("$[1].error").value("A parcela de 10.00 não cobre os juros do primeiro mês (37.50)."))
+                .andExpect(jsonPath("$[2].error").value("O valor do empréstimo deve ser positivo."))
+                .andExpect(jsonPath("$[3].index").value(3))
+                .andExpect(jsonPath("$[3].result.effectiveMonthlyCost").isNumber());
+    }
+}
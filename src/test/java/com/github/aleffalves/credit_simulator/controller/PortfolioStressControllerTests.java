@@ -0,0 +1,57 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PortfolioStressControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void stress_ShouldReturnDistributionSummaries() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        mockMvc.perform(post("/load-simulator/stress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loans\": [{\"loanAmount\": 10000, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 12},"
+                                + "{\"loanAmount\": 15000, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 24}],"
+                                + "\"paths\": 5000, \"seed\": 7, \"rateShockStdDev\": 0.01, \"annualPrepaymentRate\": 0.05}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loans").value(2))
+                .andExpect(jsonPath("$.paths").value(5000))
+                .andExpect(jsonPath("$.seed").value(7))
+                .andExpect(jsonPath("$.totalInterestPaid.p50").isNumber())
+                .andExpect(jsonPath("$.monthlyInstallment.p99").isNumber());
+    }
+
+    @Test
+    void stress_ShouldReturnBadRequest_WhenLoanAmountExceedsCalculationLimit() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        mockMvc.perform(post("/load-simulator/stress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loans\": [{\"loanAmount\": 1e20, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 12}],"
+                                + "\"paths\": 10, \"seed\": 7}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE));
+    }
+
+    @Test
+    void stress_ShouldReturnBadRequest_WhenPortfolioIsEmpty() throws Exception {
+        mockMvc.perform(post("/load-simulator/stress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loans\": [], \"paths\": 10}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SimulationJobControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void submit_ShouldAcceptJob_AndServeResultsAfterCompletion() throws Exception {
+        String dob = LocalDate.now().minusYears(30).toString();
+        String body = "[{\"loanAmount\": 10000, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 12},"
+                + "{\"loanAmount\": 15000, \"dateOfBirth\": \"" + dob + "\", \"paymentTermMonths\": 24},"
+                + "{\"loanAmount\": 10000, \"dateOfBirth\": \"" + LocalDate.now().plusYears(1) + "\", \"paymentTermMonths\": 12}]";
+
+        MvcResult submitted = mockMvc.perform(post("/load-simulator/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.totalItems").value(3))
+                .andExpect(jsonPath("$.totalChunks").value(1))
+                .andReturn();
+        String jobId = read(submitted).get("jobId").asText();
+        assertEquals("http://localhost/load-simulator/jobs/" + jobId, submitted.getResponse().getHeader("Location"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        JsonNode status;
+        do {
+            status = read(mockMvc.perform(get("/load-simulator/jobs/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn());
+        } while (!"COMPLETED".equals(status.get("status").asText()) && System.nanoTime() < deadline);
+        assertEquals("COMPLETED", status.get("status").asText());
+        assertEquals(100.0, status.get("progress").asDouble());
+
+        mockMvc.perform(get("/load-simulator/jobs/{jobId}/results/0", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].result.monthlyInstallment").value(846.94))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].error").value("A data de nascimento deve ser no passado."));
+
+        mockMvc.perform(get("/load-simulator/jobs/{jobId}/results/1", jobId))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void status_ShouldReturnNotFound_ForUnknownJob() throws Exception {
+        mockMvc.perform(get("/load-simulator/jobs/{jobId}", "desconhecido"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.aleffalves.credit_simulator.controller;
+
+import com.github.aleffalves.credit_simulator.CreditSimulatorApplication;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara vazão e latência p99 entre o Tomcat com threads de plataforma e com virtual threads, com parte dos clientes
+ * enviando o corpo da requisição lentamente (o cenário em que o pool de threads de plataforma se esgota).
+ *
+ * <p>O controle de admissão fica ligado, como em produção, para que a verificação de pinning cubra também o
+ * {@code ConcurrencyLimitFilter}. As recusas com 503 são contadas à parte ({@code rejected}) e não como falhas.
+ *
+ * <p>O p99 com virtual threads não pode passar o das threads de plataforma em mais de
+ * {@code thread-mode.p99-tolerance} (padrão 0.2 = 20%) mais {@code thread-mode.p99-slack-millis} (5 ms), folga para o
+ * ruído quando as duas latências são pequenas. As duas medidas vêm da mesma máquina e da mesma execução.
+ */
+@Tag("perf")
+public class ThreadModeLoadTests {
+
+    private static final int CLIENTS = 300;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int SLOW_CLIENT_EVERY = 4;
+    private static final long SLOW_CLIENT_DELAY_MS = 20;
+    private static final int PLATFORM_MAX_THREADS = 50;
+
+    @Test
+    void compareThroughputAndP99_BetweenPlatformAndVirtualThreads() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        String report = String.format("""
+                mode      requests  errors  rejected  throughput(req/s)  p50(ms)  p99(ms)  pinned
+                platform  %8d  %6d  %8d  %17.1f  %7.2f  %7.2f  %6d
+                virtual   %8d  %6d  %8d  %17.1f  %7.2f  %7.2f  %6d
+                """,
+                platform.requests, platform.errors, platform.rejected, platform.throughput(), platform.percentileMillis(0.50), platform.percentileMillis(0.99), platform.pinnedInApplication,
+                virtual.requests, virtual.errors, virtual.rejected, virtual.throughput(), virtual.percentileMillis(0.50), virtual.percentileMillis(0.99), virtual.pinnedInApplication);
+        Files.createDirectories(Path.of("target"));
+        Files.writeString(Path.of("target", "thread-mode-load-test.txt"), report);
+
+        assertEquals(0, platform.errors, "Falhas no modo com threads de plataforma");
+        assertEquals(0, virtual.errors, "Falhas no modo com virtual threads");
+        assertEquals(0, virtual.pinnedInApplication, "Código da aplicação prendeu a carrier thread");
+
+        double tolerance = Double.parseDouble(System.getProperty("thread-mode.p99-tolerance", "0.2"));
+        double allowedMillis = platform.percentileMillis(0.99) * (1 + tolerance)
+                + Long.getLong("thread-mode.p99-slack-millis", 5);
+        assertTrue(virtual.percentileMillis(0.99) <= allowedMillis, String.format(
+                "p99 com virtual threads (%.2f ms) acima do limite de %.2f ms (threads de plataforma: %.2f ms)",
+                virtual.percentileMillis(0.99), allowedMillis, platform.percentileMillis(0.99)));
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CreditSimulatorApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + PLATFORM_MAX_THREADS)
+                .run();
+             RecordingStream pinning = new RecordingStream()) {
+
+            AtomicInteger pinned = new AtomicInteger();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (event.getStackTrace() == null) return;
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    if (frame.getMethod().getType().getName().startsWith("com.github.aleffalves.credit_simulator")) {
+                        pinned.incrementAndGet();
+                        return;
+                    }
+                }
+            });
+            pinning.startAsync();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/load-simulator");
+            byte[] body = ("{\"loanAmount\": 15000.00, \"dateOfBirth\": \"" + LocalDate.now().minusYears(35)
+                    + "\", \"paymentTermMonths\": 24}").getBytes(StandardCharsets.UTF_8);
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient http = HttpClient.newBuilder().executor(clients).build();
+                execute(http, clients, uri, body, 2);
+
+                long start = System.nanoTime();
+                LoadResult result = execute(http, clients, uri, body, REQUESTS_PER_CLIENT);
+                result.elapsedNanos = System.nanoTime() - start;
+                result.pinnedInApplication = pinned.get();
+                return result;
+            }
+        }
+    }
+
+    private LoadResult execute(HttpClient http, ExecutorService clients, URI uri, byte[] body, int requestsPerClient) throws Exception {
+        List<Future<long[]>> futures = new ArrayList<>();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        for (int c = 0; c < CLIENTS; c++) {
+            boolean slow = c % SLOW_CLIENT_EVERY == 0;
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[requestsPerClient];
+                for (int i = 0; i < requestsPerClient; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/json")
+                            .POST(slow ? slowBody(body) : HttpRequest.BodyPublishers.ofByteArray(body))
+                            .build();
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[i] = System.nanoTime() - start;
+                    if (response.statusCode() == 503) rejected.incrementAndGet();
+                    else if (response.statusCode() != 200) errors.incrementAndGet();
+                }
+                return latencies;
+            }));
+        }
+
+        LoadResult result = new LoadResult();
+        long[] all = new long[CLIENTS * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(all);
+        result.latencies = all;
+        result.requests = all.length;
+        result.errors = errors.get();
+        result.rejected = rejected.get();
+        return result;
+    }
+
+    // Cliente lento: envia metade do corpo, espera e só então envia o restante.
+    private static HttpRequest.BodyPublisher slowBody(byte[] body) {
+        int half = body.length / 2;
+        return HttpRequest.BodyPublishers.ofInputStream(() -> new SequenceInputStream(
+                new ByteArrayInputStream(body, 0, half),
+                new InputStream() {
+                    private InputStream rest;
+
+                    @Override
+                    public int read() throws IOException {
+                        if (rest == null) {
+                            try {
+                                Thread.sleep(SLOW_CLIENT_DELAY_MS);
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                                throw new IOException(ex);
+                            }
+                            rest = new ByteArrayInputStream(body, half, body.length - half);
+                        }
+                        return rest.read();
+                    }
+                }));
+    }
+
+    private static final class LoadResult {
+        long[] latencies;
+        int requests;
+        int errors;
+        int rejected;
+        long elapsedNanos;
+        int pinnedInApplication;
+
+        double throughput() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            int index = Math.min(latencies.length - 1, (int) Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.aleffalves.credit_simulator.journal;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimulationJournalTests {
+
+    private static final LocalDate DATE_OF_BIRTH = LocalDate.parse("1990-05-17");
+
+    @Test
+    void record_ShouldWriteEveryEntryToSegments_AndContinueSequenceAfterRestart(@TempDir Path dir) throws Exception {
+        // Segmentos pequenos para forçar várias trocas de arquivo.
+        SimulationJournal journal = journal(List.of(new MappedSegmentJournal(dir, 4096)), 1024, JournalOverflowPolicy.DROP_NEWEST,
+                JournalDurability.BATCH, new SimpleMeterRegistry());
+        LoadSimulatorService service = StandaloneServices.loadSimulatorService(journal);
+
+        List<LoadSimulatorResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            responses.add(service.simulate(request(1000 + i)));
+        }
+        journal.close();
+
+        List<JournalEntry> entries = MappedSegmentJournal.readAll(dir);
+        assertEquals(500, entries.size());
+        assertTrue(MappedSegmentJournal.segments(dir).size() > 1, "Esperava mais de um segmento");
+        for (int i = 0; i < 500; i++) {
+            JournalEntry entry = entries.get(i);
+            assertEquals(i, entry.sequence());
+            assertEquals(BigDecimal.valueOf(1000 + i), entry.loanAmount());
+            assertEquals(DATE_OF_BIRTH, entry.dateOfBirth());
+            assertEquals(12, entry.paymentTermMonths());
+            assertEquals(responses.get(i).getMonthlyInstallment(), entry.monthlyInstallment());
+            assertEquals(responses.get(i).getTotalAmountPayable(), entry.totalAmountPayable());
+            assertEquals(responses.get(i).getTotalInterestPaid(), entry.totalInterestPaid());
+        }
+
+        SimulationJournal restarted = journal(List.of(new MappedSegmentJournal(dir, 4096)), 1024, JournalOverflowPolicy.DROP_NEWEST,
+                JournalDurability.NONE, new SimpleMeterRegistry());
+        restarted.record(request(42), responses.get(0));
+        restarted.close();
+
+        entries = MappedSegmentJournal.readAll(dir);
+        assertEquals(501, entries.size());
+        assertEquals(500, entries.get(500).sequence());
+    }
+
+    @Test
+    void record_ShouldDropOversizedEntry_WithoutLosingRestOfBatch(@TempDir Path dir) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationJournal journal = journal(List.of(new MappedSegmentJournal(dir, 4096)), 1024, JournalOverflowPolicy.DROP_NEWEST,
+                JournalDurability.BATCH, registry);
+        LoadSimulatorService service = StandaloneServices.loadSimulatorService(journal);
+
+        service.simulate(request(1000));
+        // 1e250 é um valor válido para a API, mas toPlainString() tem 251 caracteres e a linha passa de 256 bytes.
+        journal.record(LoadSimulatorRequest.builder().loanAmount(new BigDecimal("1e250")).dateOfBirth(DATE_OF_BIRTH)
+                .paymentTermMonths(12).build(), StandaloneServices.loadSimulatorService().simulate(request(1001)));
+        service.simulate(request(1002));
+        journal.close();
+
+        List<JournalEntry> entries = MappedSegmentJournal.readAll(dir);
+        assertEquals(List.of(0L, 1L), entries.stream().map(JournalEntry::sequence).toList());
+        assertEquals(List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(1002)),
+                entries.stream().map(JournalEntry::loanAmount).toList());
+        assertEquals(1.0, registry.get(SimulationJournal.ENTRIES_COUNTER).tag("result", "dropped").counter().count());
+        assertEquals(0, registry.find(SimulationJournal.WRITE_FAILURES_COUNTER).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void record_ShouldDropNewest_WithoutBlockingCaller_WhenBufferIsFull() throws Exception {
+        assertEquals(List.of(0, 1, 2, 3, 4), recordWhileWriterIsBlocked(JournalOverflowPolicy.DROP_NEWEST));
+    }
+
+    @Test
+    void record_ShouldDropOldest_WithoutBlockingCaller_WhenBufferIsFull() throws Exception {
+        assertEquals(List.of(0, 7, 8, 9, 10), recordWhileWriterIsBlocked(JournalOverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    void jdbcSink_ShouldInsertBatches_IntoEmbeddedDatabase() throws Exception {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try {
+            SimulationJournal journal = journal(List.of(new JdbcJournalSink(database, true)), 1024, JournalOverflowPolicy.DROP_NEWEST,
+                    JournalDurability.NONE, new SimpleMeterRegistry());
+            LoadSimulatorService service = StandaloneServices.loadSimulatorService(journal);
+            LoadSimulatorResponse response = service.simulate(request(15000));
+            for (int i = 1; i < 100; i++) {
+                service.simulate(request(15000 + i));
+            }
+            journal.close();
+
+            JdbcTemplate jdbc = new JdbcTemplate(database);
+            assertEquals(100, jdbc.queryForObject("SELECT COUNT(*) FROM simulation_journal", Integer.class));
+            Map<String, Object> first = jdbc.queryForMap("SELECT * FROM simulation_journal WHERE sequence = 0");
+            assertEquals(0, new BigDecimal("15000").compareTo((BigDecimal) first.get("LOAN_AMOUNT")));
+            assertEquals(0, response.getMonthlyInstallment().compareTo((BigDecimal) first.get("MONTHLY_INSTALLMENT")));
+            assertEquals(12, first.get("PAYMENT_TERM_MONTHS"));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    void jdbcSink_ShouldStoreAmountsBeyondNineteenDigits() throws Exception {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try {
+            LoadSimulatorService service = StandaloneServices.loadSimulatorService();
+            LoadSimulatorRequest large = new LoadSimulatorRequest(new BigDecimal("1E+20"), DATE_OF_BIRTH, 12);
+            LoadSimulatorResponse response = service.simulate(large);
+
+            new JdbcJournalSink(database, true).write(List.of(JournalEntry.of(0, 0, large, response),
+                    JournalEntry.of(1, 0, request(1000), service.simulate(request(1000)))));
+
+            Map<String, Object> row = new JdbcTemplate(database).queryForMap("SELECT * FROM simulation_journal WHERE sequence = 0");
+            assertEquals(0, large.getLoanAmount().compareTo((BigDecimal) row.get("LOAN_AMOUNT")));
+            assertEquals(0, response.getTotalAmountPayable().compareTo((BigDecimal) row.get("TOTAL_AMOUNT_PAYABLE")));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    void jdbcSink_ShouldKeepRestOfBatch_WhenDatabaseRejectsOneEntry() throws Exception {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try {
+            LoadSimulatorResponse response = StandaloneServices.loadSimulatorService().simulate(request(1000));
+            // Mais dígitos do que qualquer coluna NUMERIC aceita.
+            LoadSimulatorRequest rejected = new LoadSimulatorRequest(BigDecimal.TEN.pow(1000), DATE_OF_BIRTH, 12);
+            JdbcJournalSink sink = new JdbcJournalSink(database, true);
+
+            IOException ex = assertThrows(IOException.class, () -> sink.write(List.of(
+                    JournalEntry.of(0, 0, request(1000), response),
+                    JournalEntry.of(1, 0, rejected, response),
+                    JournalEntry.of(2, 0, request(1000), response))));
+            assertTrue(ex.getMessage().startsWith("1 de 3 entradas recusadas"), ex.getMessage());
+            assertEquals(List.of(0L, 2L), new JdbcTemplate(database)
+                    .queryForList("SELECT sequence FROM simulation_journal ORDER BY sequence", Long.class));
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    // O primeiro item ocupa a thread de escrita; com buffer de 4, mais 10 itens forçam o descarte de 6.
+    private List<Integer> recordWhileWriterIsBlocked(JournalOverflowPolicy policy) throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> written = new ArrayList<>();
+        JournalSink blocking = new JournalSink() {
+            @Override
+            public String name() {
+                return "blocking";
+            }
+
+            @Override
+            public void write(List<JournalEntry> batch) {
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                batch.forEach(entry -> written.add(entry.loanAmount().intValue()));
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationJournal journal = journal(List.of(blocking), 4, policy, JournalDurability.NONE, registry);
+        LoadSimulatorResponse response = StandaloneServices.loadSimulatorService().simulate(request(1000));
+
+        journal.record(request(0), response);
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        long start = System.nanoTime();
+        for (int i = 1; i <= 10; i++) {
+            journal.record(request(i), response);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "record() não pode bloquear");
+        release.countDown();
+        journal.close();
+
+        assertEquals(6.0, registry.get(SimulationJournal.ENTRIES_COUNTER).tag("result", "dropped").counter().count());
+        return written;
+    }
+
+    private static SimulationJournal journal(List<JournalSink> sinks, int bufferSize, JournalOverflowPolicy policy,
+                                             JournalDurability durability, SimpleMeterRegistry registry) throws IOException {
+        return new SimulationJournal(sinks, bufferSize, 64, policy, durability,
+                Duration.ofMillis(10), Duration.ofMillis(50), registry);
+    }
+
+    private static LoadSimulatorRequest request(int loanAmount) {
+        return new LoadSimulatorRequest(BigDecimal.valueOf(loanAmount), DATE_OF_BIRTH, 12);
+    }
+}
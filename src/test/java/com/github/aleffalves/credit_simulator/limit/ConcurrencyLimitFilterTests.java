@@ -0,0 +1,56 @@
+package com.github.aleffalves.credit_simulator.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimitFilterTests {
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit("single", 1, 1, 10, 1.5, 0.2, 50, new SimpleMeterRegistry());
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, Duration.ofSeconds(2));
+
+    @Test
+    void doFilter_ShouldShedWith503AndRetryAfter_WhenLimitIsReached() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain holdsTheOnlySlot = (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("POST", "/load-simulator"), rejected, (req, res) -> {
+                    throw new AssertionError("Não deveria chegar ao controller");
+                });
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/load-simulator"), admitted, holdsTheOnlySlot);
+
+        assertEquals(200, admitted.getStatus());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":503"));
+        assertTrue(rejected.getContentAsString().contains("\"timestamp\""));
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldHoldSlotUntilAsyncResponseCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/load-simulator/schedule");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertEquals(1, limit.getInFlight());
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/load-simulator"), rejected, (req, res) -> {
+        });
+        assertEquals(503, rejected.getStatus());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, limit.getInFlight());
+    }
+}
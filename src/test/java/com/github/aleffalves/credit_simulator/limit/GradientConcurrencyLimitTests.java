@@ -0,0 +1,84 @@
+package com.github.aleffalves.credit_simulator.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GradientConcurrencyLimitTests {
+
+    // Maior que o limite máximo usado nos testes: cada chamada de runWindows fecha exatamente uma janela por iteração.
+    private static final int WINDOW = 500;
+
+    @Test
+    void limit_ShouldGrowWhileLatencyIsStable_AndShrinkWhenItInflates() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit("single", 20, 5, 200, 1.5, 0.2, WINDOW, registry);
+
+        runWindows(limit, 30, TimeUnit.MILLISECONDS.toNanos(1));
+        int grown = limit.getLimit();
+        assertTrue(grown > 20, "Com latência estável o limite deveria crescer: " + grown);
+
+        runWindows(limit, 5, TimeUnit.MILLISECONDS.toNanos(10));
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < grown * 3 / 4, "Com latência 10x maior o limite deveria cair: " + grown + " -> " + shrunk);
+        assertEquals(shrunk, registry.get(GradientConcurrencyLimit.LIMIT_GAUGE).tag("endpoint", "single").gauge().value());
+    }
+
+    @Test
+    void limit_ShouldNotDropBelowMinimum() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit("bulk", 10, 9, 200, 1.5, 0.2, WINDOW, new SimpleMeterRegistry());
+
+        runWindows(limit, 1, TimeUnit.MILLISECONDS.toNanos(1));
+        runWindows(limit, 3, TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertEquals(9, limit.getLimit());
+    }
+
+    @Test
+    void limit_ShouldNotGrow_WhenTrafficDoesNotUseIt() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit("single", 20, 5, 200, 1.5, 0.2, WINDOW, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 30 * WINDOW; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectAboveLimit_AndCountRejections() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit("bulk", 2, 1, 10, 1.5, 0.2, WINDOW, registry);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+        assertEquals(1.0, registry.get(GradientConcurrencyLimit.REJECTED_COUNTER).tag("endpoint", "bulk").counter().count());
+
+        limit.release(1_000);
+        assertTrue(limit.tryAcquire());
+    }
+
+    // Cada janela ocupa todo o limite atual, para que ele possa crescer.
+    private static void runWindows(GradientConcurrencyLimit limit, int windows, long rttNanos) {
+        for (int w = 0; w < windows; w++) {
+            int concurrent = limit.getLimit();
+            int acquired = 0;
+            while (acquired < concurrent && limit.tryAcquire()) acquired++;
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos);
+            }
+            for (int i = acquired; i < WINDOW; i++) {
+                assertTrue(limit.tryAcquire());
+                limit.release(rttNanos);
+            }
+        }
+    }
+}
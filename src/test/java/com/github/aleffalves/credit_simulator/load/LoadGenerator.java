@@ -0,0 +1,117 @@
+package com.github.aleffalves.credit_simulator.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em malha aberta: a requisição {@code i} tem hora marcada, {@code início + i / taxa}, e é enviada
+ * nessa hora sem esperar as respostas anteriores. A latência é medida a partir da hora marcada, e não do envio. Se o
+ * servidor (ou o próprio gerador) atrasar, o atraso aparece na distribuição em vez de reduzir a taxa de envio, o
+ * que evita a omissão coordenada. O tempo de serviço, medido a partir do envio real, é registrado à parte para
+ * comparação.
+ *
+ * <p>As latências vão para histogramas HdrHistogram em microssegundos. Acima de {@code maxInFlight} requisições
+ * pendentes, a requisição da vez não é enviada e conta como erro {@code saturated}. Ela também entra na distribuição de
+ * latência com o timeout da requisição, o mínimo que o cliente teria esperado; sem isso, os envios descartados
+ * justamente no pior momento sumiriam dos percentis. O tempo de serviço só inclui requisições enviadas.
+ */
+final class LoadGenerator {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final HttpClient http;
+    private final URI uri;
+    private final TrafficSource traffic;
+    private final int maxInFlight;
+    private final Duration requestTimeout;
+
+    LoadGenerator(HttpClient http, URI uri, TrafficSource traffic, int maxInFlight, Duration requestTimeout) {
+        this.http = http;
+        this.uri = uri;
+        this.traffic = traffic;
+        this.maxInFlight = maxInFlight;
+        this.requestTimeout = requestTimeout;
+    }
+
+    Result run(double ratePerSecond, Duration duration) throws InterruptedException {
+        long requests = (long) (ratePerSecond * duration.toNanos() / 1e9);
+        double intervalNanos = 1e9 / ratePerSecond;
+        Result result = new Result();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            if (!inFlight.tryAcquire()) {
+                result.latency.recordValue(micros(Math.max(requestTimeout.toNanos(), System.nanoTime() - intended)));
+                result.error("saturated");
+                continue;
+            }
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .timeout(requestTimeout)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(traffic.next()))
+                    .build();
+            long sent = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long end = System.nanoTime();
+                result.latency.recordValue(micros(end - intended));
+                result.serviceTime.recordValue(micros(end - sent));
+                if (failure != null) {
+                    result.error(failure.getCause() instanceof HttpTimeoutException || failure instanceof HttpTimeoutException
+                            ? "timeout" : "io");
+                } else if (response.statusCode() != 200) {
+                    result.error("status " + response.statusCode());
+                }
+                result.completed.increment();
+                inFlight.release();
+            });
+        }
+
+        // Espera as respostas pendentes; o que não voltar a tempo já foi contado como timeout pelo cliente.
+        inFlight.tryAcquire(maxInFlight, requestTimeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+        result.requests = requests;
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(MAX_LATENCY_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    static final class Result {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final Histogram serviceTime = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder completed = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        long requests;
+        long elapsedNanos;
+
+        void error(String type) {
+            errors.computeIfAbsent(type, key -> new LongAdder()).increment();
+        }
+
+        Map<String, Long> errors() {
+            Map<String, Long> counts = new TreeMap<>();
+            errors.forEach((type, count) -> counts.put(type, count.sum()));
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.aleffalves.credit_simulator.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de uma execução do gerador de carga, gravado em JSON para ser comparado com uma linha de base.
+ * Latências em microssegundos.
+ */
+record LoadReport(String traffic,
+                  double targetRate,
+                  long durationSeconds,
+                  long requests,
+                  long completed,
+                  double throughput,
+                  long errors,
+                  double errorRate,
+                  Map<String, Long> errorsByType,
+                  Percentiles latency,
+                  Percentiles serviceTime) {
+
+    record Percentiles(long p50, long p90, long p99, long p999, long max, double mean) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue(), histogram.getMean());
+        }
+    }
+
+    static LoadReport of(String traffic, double targetRate, long durationSeconds, LoadGenerator.Result result) {
+        Map<String, Long> errorsByType = result.errors();
+        long errors = errorsByType.values().stream().mapToLong(Long::longValue).sum();
+        long completed = result.completed.sum();
+        return new LoadReport(traffic, targetRate, durationSeconds, result.requests, completed,
+                completed / (result.elapsedNanos / 1e9), errors,
+                result.requests == 0 ? 0 : (double) errors / result.requests, errorsByType,
+                Percentiles.of(result.latency), Percentiles.of(result.serviceTime));
+    }
+
+    /**
+     * Diferenças em relação à linha de base que contam como regressão. Uma latência regride quando passa de
+     * {@code base × (1 + latencyTolerance) + latencySlackMicros}; a folga absoluta evita falsos alarmes em latências
+     * de poucos milissegundos. A taxa de erros regride quando passa de {@code base + errorRateSlack}.
+     */
+    List<String> regressionsAgainst(LoadReport baseline, double latencyTolerance, long latencySlackMicros, double errorRateSlack) {
+        List<String> regressions = new ArrayList<>();
+        if (baseline.targetRate != targetRate) {
+            regressions.add("A linha de base foi gravada a " + baseline.targetRate + " req/s e esta execução usou "
+                    + targetRate + " req/s; as latências não são comparáveis.");
+            return regressions;
+        }
+        checkLatency(regressions, "p50", latency.p50, baseline.latency.p50, latencyTolerance, latencySlackMicros);
+        checkLatency(regressions, "p99", latency.p99, baseline.latency.p99, latencyTolerance, latencySlackMicros);
+        checkLatency(regressions, "p99.9", latency.p999, baseline.latency.p999, latencyTolerance, latencySlackMicros);
+        if (errorRate > baseline.errorRate + errorRateSlack) {
+            regressions.add(String.format("Taxa de erros %.4f acima da linha de base %.4f (folga %.4f).",
+                    errorRate, baseline.errorRate, errorRateSlack));
+        }
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String percentile, long current, long base,
+                                     double tolerance, long slackMicros) {
+        long allowed = (long) (base * (1 + tolerance)) + slackMicros;
+        if (current > allowed) {
+            regressions.add("Latência " + percentile + " de " + current + " µs acima do permitido (" + allowed
+                    + " µs; linha de base " + base + " µs).");
+        }
+    }
+}
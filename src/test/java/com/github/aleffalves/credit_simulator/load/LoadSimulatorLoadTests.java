@@ -0,0 +1,86 @@
+package com.github.aleffalves.credit_simulator.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.aleffalves.credit_simulator.CreditSimulatorApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga de {@code POST /load-simulator} pela pilha HTTP completa, antes de um release. Sobe a aplicação em uma
+ * porta aleatória, aquece e então dispara o tráfego em malha aberta ({@link LoadGenerator}) na taxa pedida. Grava
+ * {@code target/load-report.json} e a distribuição completa das latências em {@code target/load-latency.hgrm}
+ * (milissegundos). Se a linha de base existir, falha quando p50, p99, p99.9 ou a taxa de erros regridem além da
+ * tolerância.
+ *
+ * <p>Parâmetros ({@code -D}): {@code load.rate} (req/s, padrão 200), {@code load.duration-seconds} (30),
+ * {@code load.warmup-seconds} (10), {@code load.traffic} (diretório do diário ou arquivo com uma requisição JSON por
+ * linha; sem ele, tráfego sintético com {@code load.seed}), {@code load.max-in-flight} (1000),
+ * {@code load.baseline} (padrão {@code src/test/resources/load/baseline.json}), {@code load.latency-tolerance} (0.5),
+ * {@code load.latency-slack-millis} (5) e {@code load.error-rate-slack} (0.001).
+ */
+@Tag("perf")
+public class LoadSimulatorLoadTests {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void openLoopLoad_ShouldSustainRate_AndNotRegressAgainstBaseline() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        long durationSeconds = Long.getLong("load.duration-seconds", 30);
+        long warmupSeconds = Long.getLong("load.warmup-seconds", 10);
+        String trafficPath = System.getProperty("load.traffic", "");
+        TrafficSource traffic = trafficPath.isBlank()
+                ? TrafficSource.synthetic(Long.getLong("load.seed", 42), 10_000)
+                : TrafficSource.recorded(Path.of(trafficPath));
+
+        LoadReport report;
+        LoadGenerator.Result result;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CreditSimulatorApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            LoadGenerator generator = new LoadGenerator(http, URI.create("http://localhost:" + port + "/api/load-simulator"),
+                    traffic, Integer.getInteger("load.max-in-flight", 1000), REQUEST_TIMEOUT);
+
+            generator.run(rate, Duration.ofSeconds(warmupSeconds));
+            result = generator.run(rate, Duration.ofSeconds(durationSeconds));
+            report = LoadReport.of(traffic.description(), rate, durationSeconds, result);
+        }
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path target = Files.createDirectories(Path.of("target"));
+        mapper.writeValue(target.resolve("load-report.json").toFile(), report);
+        try (PrintStream hgrm = new PrintStream(target.resolve("load-latency.hgrm").toFile())) {
+            result.latency.outputPercentileDistribution(hgrm, 1000.0);
+        }
+
+        assertTrue(report.throughput() >= rate * 0.95, String.format(
+                "Vazão de %.1f req/s abaixo da taxa pedida (%.1f req/s): o gerador ou o servidor não sustentou a carga.",
+                report.throughput(), rate));
+
+        Path baselinePath = Path.of(System.getProperty("load.baseline", "src/test/resources/load/baseline.json"));
+        if (Files.exists(baselinePath)) {
+            LoadReport baseline = mapper.readValue(baselinePath.toFile(), LoadReport.class);
+            List<String> regressions = report.regressionsAgainst(baseline,
+                    Double.parseDouble(System.getProperty("load.latency-tolerance", "0.5")),
+                    Long.getLong("load.latency-slack-millis", 5) * 1000,
+                    Double.parseDouble(System.getProperty("load.error-rate-slack", "0.001")));
+            assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.aleffalves.credit_simulator.load;
+
+import com.github.aleffalves.credit_simulator.journal.JournalEntry;
+import com.github.aleffalves.credit_simulator.journal.SimulationJournal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Corpos de requisição de {@code POST /load-simulator} para o gerador de carga, repetidos em ciclo. Só a thread que
+ * dispara as requisições chama {@link #next()}.
+ */
+final class TrafficSource {
+
+    private final String description;
+    private final List<byte[]> bodies;
+    private int position;
+
+    private TrafficSource(String description, List<byte[]> bodies) {
+        if (bodies.isEmpty()) throw new IllegalArgumentException("Nenhuma requisição em " + description + ".");
+        this.description = description;
+        this.bodies = bodies;
+    }
+
+    /**
+     * Tráfego sintético reproduzível: valores de 1.000 a 200.000, idades de 18 a 85 anos e prazos de 6 a 120 meses,
+     * sorteados com a semente informada.
+     */
+    static TrafficSource synthetic(long seed, int size) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDate today = LocalDate.now();
+        List<byte[]> bodies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BigDecimal loanAmount = BigDecimal.valueOf(random.nextLong(100_000, 20_000_001), 2);
+            LocalDate dateOfBirth = today.minusYears(random.nextInt(18, 86)).minusDays(random.nextInt(1, 365));
+            bodies.add(body(loanAmount, dateOfBirth, random.nextInt(6, 121)));
+        }
+        return new TrafficSource("synthetic(seed=" + seed + ", size=" + size + ")", bodies);
+    }
+
+    /**
+     * Tráfego gravado: um diretório do diário de simulações ({@code credit-simulator.journal.directory}) ou um arquivo
+     * com uma requisição JSON por linha, no formato aceito por {@code /load-simulator} e pelo lote em NDJSON.
+     */
+    static TrafficSource recorded(Path path) throws IOException {
+        List<byte[]> bodies = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            for (JournalEntry entry : SimulationJournal.read(path)) {
+                bodies.add(body(entry.loanAmount(), entry.dateOfBirth(), entry.paymentTermMonths()));
+            }
+        } else {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) bodies.add(line.trim().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return new TrafficSource("recorded(" + path + ")", bodies);
+    }
+
+    byte[] next() {
+        byte[] body = bodies.get(position);
+        position = (position + 1) % bodies.size();
+        return body;
+    }
+
+    String description() {
+        return description;
+    }
+
+    private static byte[] body(BigDecimal loanAmount, LocalDate dateOfBirth, int paymentTermMonths) {
+        return ("{\"loanAmount\": " + loanAmount.toPlainString() + ", \"dateOfBirth\": \"" + dateOfBirth
+                + "\", \"paymentTermMonths\": " + paymentTermMonths + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
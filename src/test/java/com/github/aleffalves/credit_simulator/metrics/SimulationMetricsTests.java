@@ -0,0 +1,69 @@
+package com.github.aleffalves.credit_simulator.metrics;
+
+import com.github.aleffalves.credit_simulator.service.RateTable;
+import com.github.aleffalves.credit_simulator.service.RateTableReloadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class SimulationMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheus_ShouldExposeStageTimersTierCountersAndErrors() throws Exception {
+        mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmount\": 10000, \"dateOfBirth\": \"" + LocalDate.now().minusYears(30) + "\", \"paymentTermMonths\": 12}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/load-simulator")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanAmount\": 10000, \"dateOfBirth\": \"" + LocalDate.now().minusYears(30) + "\", \"paymentTermMonths\": 0}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("credit_simulator_simulation_stage_seconds_bucket{stage=\"installment\"")))
+                .andExpect(content().string(containsString("credit_simulator_simulation_rate_tier_total{tier=\"1\"} 1.0")))
+                .andExpect(content().string(containsString("credit_simulator_simulation_term_range_total{range=\"1-12\"} 1.0")))
+                .andExpect(content().string(containsString("credit_simulator_errors_total{exception=\"SimulationValidationException\"} 1.0")));
+    }
+
+    @Test
+    void tierCounters_ShouldFollowRateTableSize_AcrossReloads() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        RateTable rateTable = RateTable.of(RateTable.DEFAULT_TIERS, Clock.systemDefaultZone());
+        SimulationMetrics metrics = new SimulationMetrics(registry, rateTable);
+        assertEquals(4, registry.find(SimulationMetrics.RATE_TIER_COUNTER).counters().size());
+
+        rateTable.reload("30:0.06,*:0.01");
+        metrics.onRateTableReloaded(new RateTableReloadedEvent(rateTable, rateTable.current().version()));
+        assertEquals(2, registry.find(SimulationMetrics.RATE_TIER_COUNTER).counters().size());
+
+        rateTable.reload("20:0.06,30:0.05,40:0.04,50:0.03,60:0.02,*:0.01");
+        metrics.onRateTableReloaded(new RateTableReloadedEvent(rateTable, rateTable.current().version()));
+        metrics.recordRateResolution(5, 12, 0, 0, 0);
+        assertEquals(6, registry.find(SimulationMetrics.RATE_TIER_COUNTER).counters().size());
+        assertEquals(1.0, registry.get(SimulationMetrics.RATE_TIER_COUNTER).tag("tier", "5").counter().count());
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.aleffalves.credit_simulator.offline;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorBatchService;
+import com.github.aleffalves.credit_simulator.service.LoadSimulatorService;
+import com.github.aleffalves.credit_simulator.service.StandaloneServices;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class OfflineBulkSimulationTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LoadSimulatorService loadSimulatorService = StandaloneServices.loadSimulatorService();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void httpPortDisabler_ShouldCloseThePort_WhenInputComesFromEnvironmentVariable() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(new SystemEnvironmentPropertySource("env",
+                Map.of("CREDIT_SIMULATOR_OFFLINE_INPUT", "clientes.csv")));
+        environment.getPropertySources().addLast(new MapPropertySource("application", Map.of("server.port", 8080)));
+
+        OfflineBulkRunner.HttpPortDisabler.disableHttpPort(environment);
+
+        assertTrue(OfflineBulkRunner.isRequested(environment));
+        assertEquals(-1, environment.getProperty("server.port", Integer.class));
+
+        StandardEnvironment online = new StandardEnvironment();
+        online.getPropertySources().addLast(new MapPropertySource("application", Map.of("server.port", 8080)));
+        OfflineBulkRunner.HttpPortDisabler.disableHttpPort(online);
+
+        assertFalse(OfflineBulkRunner.isRequested(online));
+        assertEquals(8080, online.getProperty("server.port", Integer.class));
+    }
+
+    @Test
+    void run_ShouldWriteResultsInInputOrder_AcrossParallelRanges() throws Exception {
+        Path input = directory.resolve("customers.csv");
+        List<String> rows = csvRows(200);
+        rows.set(17, "10000," + LocalDate.now().plusYears(1) + ",12");
+        rows.set(42, "abc,1990-01-01,12");
+        rows.add(100, "");
+        Files.write(input, withHeader(rows));
+        Path output = directory.resolve("customers.result.csv");
+
+        OfflineBulkSimulation.Summary summary = simulation(batchService(), 4, 256).run(input, output);
+
+        assertEquals(200, summary.totalRows());
+        assertEquals(200, summary.simulatedRows());
+        assertEquals(2, summary.errors());
+        assertTrue(summary.ranges() > 10, "Arquivo deveria ser dividido em várias faixas: " + summary.ranges());
+        assertFalse(Files.exists(directory.resolve("customers.result.csv" + OfflineBulkSimulation.PARTS_SUFFIX)));
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(OfflineBulkSimulation.CSV_HEADER, lines.get(0));
+        assertEquals(201, lines.size());
+        for (int i = 0; i < 200; i++) {
+            String[] fields = lines.get(i + 1).split(",", 5);
+            assertEquals(String.valueOf(i), fields[0]);
+            if (i == 17 || i == 42) {
+                assertFalse(fields[4].isEmpty(), "Linha " + i + " deveria ter erro");
+                continue;
+            }
+            LoadSimulatorResponse expected = loadSimulatorService.simulate(request(i));
+            assertEquals(expected.getMonthlyInstallment().toPlainString(), fields[1]);
+            assertEquals(expected.getTotalInterestPaid().toPlainString(), fields[3]);
+        }
+    }
+
+    @Test
+    void run_ShouldReadAndWriteNdjson() throws Exception {
+        Path input = directory.resolve("customers.ndjson");
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) rows.add(objectMapper.writeValueAsString(request(i)));
+        rows.set(5, "{\"loanAmount\": ");
+        Files.write(input, rows);
+        Path output = directory.resolve("out.ndjson");
+
+        simulation(batchService(), 2, 128).run(input, output);
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(20, lines.size());
+        for (int i = 0; i < 20; i++) {
+            JsonNode result = objectMapper.readTree(lines.get(i));
+            assertEquals(i, result.get("index").asInt());
+            assertEquals(i == 5, result.has("error"));
+        }
+    }
+
+    @Test
+    void run_ShouldResumeFromCompletedRanges_AfterCrash() throws Exception {
+        Path input = directory.resolve("customers.csv");
+        Files.write(input, withHeader(csvRows(100)));
+        Path output = directory.resolve("customers.result.csv");
+
+        LoadSimulatorBatchService crashing = Mockito.spy(batchService());
+        Mockito.doThrow(new IllegalStateException("falha simulada"))
+                .when(crashing).evaluate(eq(60L), any(LoadSimulatorRequest.class));
+        assertThrows(IOException.class, () -> simulation(crashing, 1, 256).run(input, output));
+        assertFalse(Files.exists(output));
+
+        LoadSimulatorBatchService counting = Mockito.spy(batchService());
+        OfflineBulkSimulation.Summary summary = simulation(counting, 1, 256).run(input, output);
+
+        assertTrue(summary.resumedRanges() > 0);
+        assertEquals(100, summary.totalRows());
+        assertTrue(summary.simulatedRows() < 100 && summary.simulatedRows() >= 40, "Só as faixas que faltavam: " + summary.simulatedRows());
+        Mockito.verify(counting, Mockito.never()).evaluate(eq(0L), any(LoadSimulatorRequest.class));
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(101, lines.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(lines.get(i + 1).startsWith(i + ","), "Linha fora de ordem: " + lines.get(i + 1));
+        }
+    }
+
+    private OfflineBulkSimulation simulation(LoadSimulatorBatchService batchService, int threads, long rangeBytes) {
+        OfflineBulkSimulation simulation = new OfflineBulkSimulation();
+        ReflectionTestUtils.setField(simulation, "loadSimulatorBatchService", batchService);
+        ReflectionTestUtils.setField(simulation, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(simulation, "threads", threads);
+        ReflectionTestUtils.setField(simulation, "rangeSize", DataSize.ofBytes(rangeBytes));
+        return simulation;
+    }
+
+    private LoadSimulatorBatchService batchService() {
+        LoadSimulatorBatchService batchService = new LoadSimulatorBatchService();
+        ReflectionTestUtils.setField(batchService, "loadSimulatorService", loadSimulatorService);
+        ReflectionTestUtils.setField(batchService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(batchService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        return batchService;
+    }
+
+    private static List<String> csvRows(int count) {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LoadSimulatorRequest request = request(i);
+            rows.add(request.getLoanAmount().toPlainString() + "," + request.getDateOfBirth() + "," + request.getPaymentTermMonths());
+        }
+        return rows;
+    }
+
+    private static List<String> withHeader(List<String> rows) {
+        List<String> lines = new ArrayList<>();
+        lines.add("loanAmount,dateOfBirth,paymentTermMonths");
+        lines.addAll(rows);
+        return lines;
+    }
+
+    private static LoadSimulatorRequest request(int i) {
+        return LoadSimulatorRequest.builder()
+                .loanAmount(BigDecimal.valueOf(1_000 + 37L * i, 0))
+                .dateOfBirth(LocalDate.now().minusYears(19 + i % 60).minusDays(i))
+                .paymentTermMonths(6 + i % 120)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridCell;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorGridRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.journal.SimulationJournal;
+import com.github.aleffalves.credit_simulator.metrics.SimulationMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class BulkInstallmentCalculatorTests {
+
+    private static final int SAMPLES = 100_000;
+
+    private final LoadSimulatorService service = StandaloneServices.loadSimulatorService();
+
+    @Test
+    void calculateInstallments_ShouldMatchSingleCalculation_ForRandomInputs() {
+        SplittableRandom random = new SplittableRandom(1010L);
+        RateTable.Snapshot rates = RateTable.defaults().current();
+        double[] principals = new double[SAMPLES];
+        double[] monthlyRates = new double[SAMPLES];
+        int[] terms = new int[SAMPLES];
+        BigDecimal[] amounts = new BigDecimal[SAMPLES];
+        BigDecimal[] rateValues = new BigDecimal[SAMPLES];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = BigDecimal.valueOf(100 + random.nextLong(100_000_000L), 2);
+            // Inclui taxas fora da tabela e prazos acima de AnnuityFactorTable.MAX_TERM.
+            rateValues[i] = random.nextInt(5) == 0
+                    ? BigDecimal.valueOf(1 + random.nextInt(300), 4)
+                    : rates.monthlyRate(random.nextInt(rates.size()));
+            principals[i] = amounts[i].doubleValue();
+            monthlyRates[i] = rateValues[i].doubleValue();
+            terms[i] = 1 + random.nextInt(600);
+        }
+
+        long[] installmentCents = service.calculateInstallments(principals, monthlyRates, terms);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal expected = service.calculateInstallment(amounts[i], rateValues[i], terms[i]);
+            assertEquals(expected, BigDecimal.valueOf(installmentCents[i], 2), amounts[i] + " " + rateValues[i] + " " + terms[i]);
+        }
+    }
+
+    @Test
+    void vectorKernel_ShouldMatchScalarKernel_BitForBit() {
+        // O módulo da incubadora só é carregado com o perfil vector (mvn -Pvector test).
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "jdk.incubator.vector não carregado");
+        SplittableRandom random = new SplittableRandom(99L);
+        int length = 4099;
+        double[] principals = new double[length];
+        double[] factors = new double[length];
+        for (int i = 0; i < length; i++) {
+            principals[i] = random.nextDouble() * 10_000_000;
+            factors[i] = AnnuityFactorTable.computeFactor(random.nextDouble() * 0.05 + 1e-6, 1 + random.nextInt(600));
+        }
+
+        double[] scalar = new double[length];
+        double[] vector = new double[length];
+        new ScalarInstallmentKernel().installments(principals, factors, scalar, length);
+        BulkInstallmentCalculator.vectorKernel().installments(principals, factors, vector, length);
+
+        assertArrayEquals(scalar, vector);
+        assertTrue(BulkInstallmentCalculator.kernelName().startsWith("vector"), BulkInstallmentCalculator.kernelName());
+    }
+
+    @Test
+    void simulateGrid_ShouldMatchSingleSimulations() {
+        LoadSimulatorGridRequest request = LoadSimulatorGridRequest.builder()
+                .loanAmounts(List.of(new BigDecimal("1000"), new BigDecimal("15000.00"), new BigDecimal("987654.32")))
+                .paymentTermsMonths(List.of(1, 12, 24, 360, 481))
+                .build();
+
+        List<LoadSimulatorGridCell> cells = service.simulateGrid(request);
+
+        RateTable.Snapshot rates = RateTable.defaults().current();
+        assertEquals(3 * 5 * rates.size(), cells.size());
+        // Uma data de nascimento representativa de cada faixa padrão (até 25, 26-40, 41-60, acima de 60).
+        int[] ages = {20, 30, 50, 70};
+        for (LoadSimulatorGridCell cell : cells) {
+            LoadSimulatorResponse expected = service.simulate(LoadSimulatorRequest.builder()
+                    .loanAmount(cell.getLoanAmount())
+                    .dateOfBirth(LocalDate.now().minusYears(ages[cell.getRateTier()]))
+                    .paymentTermMonths(cell.getPaymentTermMonths())
+                    .build());
+            assertEquals(expected.getMonthlyInstallment(), cell.getMonthlyInstallment(), cell.toString());
+            assertEquals(expected.getTotalAmountPayable(), cell.getTotalAmountPayable(), cell.toString());
+            assertEquals(expected.getTotalInterestPaid(), cell.getTotalInterestPaid(), cell.toString());
+        }
+    }
+
+    @Test
+    void simulateGrid_ShouldRejectUnknownTierAndOversizedGrid() {
+        assertThrows(IllegalArgumentException.class, () -> service.simulateGrid(LoadSimulatorGridRequest.builder()
+                .loanAmounts(List.of(BigDecimal.TEN))
+                .paymentTermsMonths(List.of(12))
+                .rateTiers(List.of(4))
+                .build()));
+
+        LoadSimulatorService smallGrid = new LoadSimulatorService(RateTable.defaults(), SimulationEngineType.BIG_DECIMAL,
+                SimulationMetrics.noop(), SimulationCache.disabled(), SimulationJournal.disabled(), 10);
+        assertThrows(IllegalArgumentException.class, () -> smallGrid.simulateGrid(LoadSimulatorGridRequest.builder()
+                .loanAmounts(List.of(BigDecimal.ONE, BigDecimal.TEN))
+                .paymentTermsMonths(List.of(12, 24))
+                .build()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FixedPointSimulationEngineTests {
+
+    private static final int SAMPLES = 200_000;
+
+    private LoadSimulatorService bigDecimalService;
+    private LoadSimulatorService fixedPointService;
+
+    @BeforeEach
+    void setUp() {
+        bigDecimalService = StandaloneServices.loadSimulatorService(SimulationEngineType.BIG_DECIMAL);
+        fixedPointService = StandaloneServices.loadSimulatorService(SimulationEngineType.FIXED_POINT);
+    }
+
+    @Test
+    void simulate_ShouldMatchBigDecimalEngine_ForRandomInputs() {
+        SplittableRandom random = new SplittableRandom(20240501L);
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                    .loanAmount(randomAmount(random))
+                    .dateOfBirth(today.minusYears(18 + random.nextInt(70)).minusDays(random.nextInt(365)))
+                    .paymentTermMonths(1 + random.nextInt(600))
+                    .build();
+
+            LoadSimulatorResponse expected = bigDecimalService.simulate(request);
+            LoadSimulatorResponse actual = fixedPointService.simulate(request);
+
+            assertEquals(expected, actual, request.toString());
+        }
+    }
+
+    @Test
+    void roundHalfEvenCents_ShouldMatchBigDecimal_NearHalfCentBoundaries() {
+        SplittableRandom random = new SplittableRandom(7L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long cents = random.nextLong(100_000_000L);
+            double value = (cents + 0.5) / 100;
+            double[] candidates = {value, Math.nextUp(value), Math.nextDown(value), random.nextDouble() * 1_000_000};
+
+            for (double candidate : candidates) {
+                long expected = BigDecimal.valueOf(candidate).setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+                assertEquals(expected, FixedPointSimulationEngine.roundHalfEvenCents(candidate), "value=" + candidate);
+            }
+        }
+    }
+
+    @Test
+    void simulate_ShouldFallBack_WhenAmountHasMoreThanTwoDecimals() {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal("10000.005"))
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        assertEquals(bigDecimalService.simulate(request), fixedPointService.simulate(request));
+    }
+
+    @Test
+    void simulate_Should_ThrowExceptionForInvalidAmount() {
+        LoadSimulatorRequest request = LoadSimulatorRequest.builder()
+                .loanAmount(BigDecimal.ZERO)
+                .dateOfBirth(LocalDate.now().minusYears(30))
+                .paymentTermMonths(12)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> fixedPointService.simulate(request));
+    }
+
+    private static BigDecimal randomAmount(SplittableRandom random) {
+        long cents = 1 + random.nextLong(random.nextBoolean() ? 10_000_000L : 100_000_000_000L);
+        BigDecimal amount = switch (random.nextInt(3)) {
+            case 0 -> BigDecimal.valueOf(cents / 100);
+            case 1 -> BigDecimal.valueOf(cents / 10, 1);
+            default -> BigDecimal.valueOf(cents, 2);
+        };
+        return amount.signum() > 0 ? amount : BigDecimal.ONE;
+    }
+}
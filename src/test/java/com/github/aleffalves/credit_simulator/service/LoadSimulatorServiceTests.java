@@ -2,22 +2,19 @@ package com.github.aleffalves.credit_simulator.service;
 
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
 import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@ExtendWith(MockitoExtension.class)
 public class LoadSimulatorServiceTests {
 
-    @InjectMocks
-    private LoadSimulatorService loadSimulatorService;
+    private final LoadSimulatorService loadSimulatorService = StandaloneServices.loadSimulatorService();
 
     @Test
     void calculateAge_ShouldReturn_CorrectAge() {
@@ -34,6 +31,15 @@ public class LoadSimulatorServiceTests {
         });
     }
 
+    @Test
+    void calculateAge_ShouldThrowStacklessValidationException() {
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class,
+                () -> loadSimulatorService.calculateAge(LocalDate.now().plusDays(1)));
+
+        assertEquals(SimulationValidationException.FUTURE_DATE_OF_BIRTH, ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
     @Test
     void getAnnualInterestRateByAge_ShouldReturn_CorrectRateForEachAgeRange() {
         assertEquals(new BigDecimal("0.05"), loadSimulatorService.getAnnualInterestRateByAge(18));
@@ -66,6 +72,30 @@ public class LoadSimulatorServiceTests {
         assertEquals(new BigDecimal("888.49"), installment);
     }
 
+    @Test
+    void calculateInstallment_ShouldMatchDirectFormula_ForTabulatedAndOutOfRangeTerms() {
+        BigDecimal pv = new BigDecimal("15432.10");
+        for (BigDecimal r : new BigDecimal[]{new BigDecimal("0.0042"), new BigDecimal("0.0025"), new BigDecimal("0.0017"), new BigDecimal("0.0033"), new BigDecimal("0.0099")}) {
+            for (int n = 1; n <= AnnuityFactorTable.MAX_TERM + 20; n++) {
+                double pmt = pv.doubleValue() * (r.doubleValue() / (1 - Math.pow(1 + r.doubleValue(), -n)));
+                BigDecimal expected = BigDecimal.valueOf(pmt).setScale(2, RoundingMode.HALF_EVEN);
+                assertEquals(expected, loadSimulatorService.calculateInstallment(pv, r, n), "r=" + r + " n=" + n);
+            }
+        }
+    }
+
+    @Test
+    void calculateInstallment_ShouldMatchRateLookup_WhenTierIsResolved() {
+        BigDecimal pv = new BigDecimal("15432.10");
+        RateTable.Snapshot rates = RateTable.defaults().current();
+        for (int tier = 0; tier < rates.size(); tier++) {
+            for (int n = 1; n <= AnnuityFactorTable.MAX_TERM + 20; n++) {
+                assertEquals(loadSimulatorService.calculateInstallment(pv, rates.monthlyRate(tier), n),
+                        loadSimulatorService.calculateInstallment(pv, tier, n), "faixa=" + tier + " n=" + n);
+            }
+        }
+    }
+
     @Test
     void calculateInstallment_Should_ThrowExceptionForInvalidArguments() {
         // Valor do empréstimo negativo
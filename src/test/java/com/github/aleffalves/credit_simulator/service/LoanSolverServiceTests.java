@@ -0,0 +1,152 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverRequest;
+import com.github.aleffalves.credit_simulator.domain.LoanSolverResponse;
+import com.github.aleffalves.credit_simulator.domain.SolverTarget;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoanSolverServiceTests {
+
+    private static final LocalDate DATE_OF_BIRTH = LocalDate.now().minusYears(35);
+
+    private final LoanSolverService solver = StandaloneServices.loanSolverService();
+    private final LoadSimulatorService simulator = StandaloneServices.loadSimulatorService();
+
+    @Test
+    void maxLoanAmount_ShouldBeLargestAmountWithinInstallment() {
+        for (String installment : new String[]{"650.00", "99.99", "1234.56", "10.01"}) {
+            for (int term : new int[]{1, 12, 24, 100, 480, 600}) {
+                BigDecimal limit = new BigDecimal(installment);
+                LoanSolverResponse response = solver.solve(LoanSolverRequest.builder()
+                        .target(SolverTarget.MAX_LOAN_AMOUNT)
+                        .dateOfBirth(DATE_OF_BIRTH)
+                        .monthlyInstallment(limit)
+                        .paymentTermMonths(term)
+                        .build());
+
+                BigDecimal simulated = simulatedInstallment(response.getLoanAmount(), term);
+                assertEquals(0, simulated.compareTo(response.getMonthlyInstallment()));
+                assertTrue(simulated.compareTo(limit) <= 0, installment + " em " + term + " meses");
+                BigDecimal oneCentMore = simulatedInstallment(response.getLoanAmount().add(new BigDecimal("0.01")), term);
+                assertTrue(oneCentMore.compareTo(limit) > 0, installment + " em " + term + " meses");
+            }
+        }
+    }
+
+    @Test
+    void minPaymentTerm_ShouldBeShortestTermWithinInstallment() {
+        for (String amount : new String[]{"15000.00", "1000.00", "250000.00"}) {
+            for (String installment : new String[]{"650.00", "2000.00", "700.00", "15000.00"}) {
+                BigDecimal loanAmount = new BigDecimal(amount);
+                BigDecimal limit = new BigDecimal(installment);
+                if (loanAmount.multiply(new BigDecimal("0.0025")).compareTo(limit) >= 0) continue;
+
+                LoanSolverResponse response = solver.solve(LoanSolverRequest.builder()
+                        .target(SolverTarget.MIN_PAYMENT_TERM)
+                        .dateOfBirth(DATE_OF_BIRTH)
+                        .loanAmount(loanAmount)
+                        .monthlyInstallment(limit)
+                        .build());
+
+                int term = response.getPaymentTermMonths();
+                assertTrue(simulatedInstallment(loanAmount, term).compareTo(limit) <= 0, amount + " com " + installment);
+                if (term > 1) assertTrue(simulatedInstallment(loanAmount, term - 1).compareTo(limit) > 0, amount + " com " + installment);
+            }
+        }
+    }
+
+    @Test
+    void minPaymentTerm_ShouldFail_WhenInstallmentDoesNotCoverInterest() {
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class, () -> solver.solve(LoanSolverRequest.builder()
+                .target(SolverTarget.MIN_PAYMENT_TERM)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .loanAmount(new BigDecimal("100000.00"))
+                .monthlyInstallment(new BigDecimal("250.00"))
+                .build()));
+        assertEquals("A parcela de 250.00 não cobre os juros do primeiro mês (250.00).", ex.getMessage());
+    }
+
+    @Test
+    void effectiveCost_ShouldMatchContractRate_WithoutFees_AndIncreaseWithFees() {
+        LoanSolverRequest request = LoanSolverRequest.builder()
+                .target(SolverTarget.EFFECTIVE_COST)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .loanAmount(new BigDecimal("15000.00"))
+                .paymentTermMonths(24)
+                .build();
+
+        LoanSolverResponse withoutFees = solver.solve(request);
+        assertEquals(0, simulatedInstallment(request.getLoanAmount(), 24).compareTo(withoutFees.getMonthlyInstallment()));
+        // Taxa mensal da faixa: 0,03 / 12 = 0,0025; a diferença vem só do arredondamento da parcela.
+        assertEquals(0.0025, withoutFees.getEffectiveMonthlyCost().doubleValue(), 1e-6);
+        assertEquals(Math.pow(1.0025, 12) - 1, withoutFees.getEffectiveAnnualCost().doubleValue(), 1e-5);
+
+        request.setUpfrontFees(new BigDecimal("300.00"));
+        LoanSolverResponse withFees = solver.solve(request);
+        assertEquals(withoutFees.getMonthlyInstallment(), withFees.getMonthlyInstallment());
+        assertTrue(withFees.getEffectiveAnnualCost().compareTo(withoutFees.getEffectiveAnnualCost()) > 0);
+    }
+
+    @Test
+    void monthlyInternalRate_ShouldConverge_FromAnyGuess() {
+        double pmt = 1000 * 0.01 / (1 - Math.pow(1.01, -12));
+        for (double guess : new double[]{0.01, 0, 1e-9, 0.5, 10, Double.NaN}) {
+            assertEquals(0.01, InstallmentSolver.monthlyInternalRate(1000, pmt, 12, guess), 1e-12);
+        }
+        assertEquals(0, InstallmentSolver.monthlyInternalRate(1000, 50, 20, 0.01));
+    }
+
+    @Test
+    void maxPrincipalCents_ShouldReject_WhenPrincipalIsNotRepresentable() {
+        double factor = 0.0042 / (1 - Math.pow(1.0042, -360));
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class,
+                () -> InstallmentSolver.maxPrincipalCents(1_000_000_000_000_000_000L, factor));
+        assertEquals(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE, ex.getMessage());
+    }
+
+    @Test
+    void solve_ShouldReject_AmountsOutsideRepresentableRange() {
+        SimulationValidationException loan = assertThrows(SimulationValidationException.class, () -> solver.solve(LoanSolverRequest.builder()
+                .target(SolverTarget.EFFECTIVE_COST)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .loanAmount(new BigDecimal("1e20"))
+                .paymentTermMonths(24)
+                .build()));
+        assertEquals(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE, loan.getMessage());
+
+        SimulationValidationException installment = assertThrows(SimulationValidationException.class, () -> solver.solve(LoanSolverRequest.builder()
+                .target(SolverTarget.MAX_LOAN_AMOUNT)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .monthlyInstallment(new BigDecimal("1e16"))
+                .paymentTermMonths(360)
+                .build()));
+        assertEquals("A parcela mensal excede o limite suportado pelo cálculo.", installment.getMessage());
+    }
+
+    @Test
+    void solve_ShouldRequireFieldsOfTarget() {
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class, () -> solver.solve(LoanSolverRequest.builder()
+                .target(SolverTarget.MAX_LOAN_AMOUNT)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .paymentTermMonths(24)
+                .build()));
+        assertEquals("Informe a parcela mensal para este cálculo.", ex.getMessage());
+    }
+
+    private BigDecimal simulatedInstallment(BigDecimal loanAmount, int term) {
+        return simulator.simulate(LoadSimulatorRequest.builder()
+                .loanAmount(loanAmount)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .paymentTermMonths(term)
+                .build()).getMonthlyInstallment();
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressRequest;
+import com.github.aleffalves.credit_simulator.domain.PortfolioStressResponse;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PortfolioStressServiceTests {
+
+    private final List<PortfolioStressService> services = new ArrayList<>();
+
+    @AfterEach
+    void stop() {
+        services.forEach(PortfolioStressService::stop);
+    }
+
+    @Test
+    void stress_ShouldBeReproducibleForSeed_WhateverTheParallelism() {
+        PortfolioStressRequest request = request(portfolio(40), 20_000, 42L, "0.01", "0.08");
+
+        PortfolioStressResponse sequential = service(1).stress(request);
+        PortfolioStressResponse parallel = service(4).stress(request);
+
+        assertEquals(sequential, parallel);
+        assertTrue(sequential.getTotalInterestPaid().getP5().compareTo(sequential.getTotalInterestPaid().getP95()) < 0);
+        assertTrue(sequential.getPrepaidShare().signum() > 0);
+
+        PortfolioStressResponse otherSeed = service(4).stress(request(portfolio(40), 20_000, 43L, "0.01", "0.08"));
+        assertNotEquals(sequential.getTotalInterestPaid().getMean(), otherSeed.getTotalInterestPaid().getMean());
+    }
+
+    @Test
+    void stress_ShouldMatchSingleSimulations_WithoutShockOrPrepayment() {
+        List<LoadSimulatorRequest> loans = portfolio(7);
+        PortfolioStressResponse response = service(2).stress(request(loans, 1_000, 1L, "0", "0"));
+
+        LoadSimulatorService simulator = StandaloneServices.loadSimulatorService();
+        BigDecimal interest = BigDecimal.ZERO;
+        BigDecimal installment = BigDecimal.ZERO;
+        for (LoadSimulatorRequest loan : loans) {
+            LoadSimulatorResponse single = simulator.simulate(loan);
+            interest = interest.add(single.getTotalInterestPaid());
+            installment = installment.add(single.getMonthlyInstallment());
+        }
+
+        assertEquals(0, interest.compareTo(response.getTotalInterestPaid().getMin()));
+        assertEquals(0, interest.compareTo(response.getTotalInterestPaid().getMax()));
+        assertEquals(0, installment.compareTo(response.getMonthlyInstallment().getP50()));
+        assertEquals(0, response.getPrepaidShare().signum());
+    }
+
+    @Test
+    void stress_ShouldRejectTooManyPaths() {
+        PortfolioStressService service = started(StandaloneServices.portfolioStressService(1, 1_000L));
+
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class,
+                () -> service.stress(request(portfolio(10), 101, 1L, "0", "0")));
+        assertEquals("O teste tem 1010 combinações de cenário e empréstimo; o máximo é 1000.", ex.getMessage());
+    }
+
+    @Test
+    void stress_ShouldRejectLoanAmountBeyondCentsRange() {
+        List<LoadSimulatorRequest> loans = portfolio(3);
+        loans.get(1).setLoanAmount(new BigDecimal("1E+20"));
+
+        SimulationValidationException ex = assertThrows(SimulationValidationException.class,
+                () -> service(2).stress(request(loans, 100, 1L, "0.01", "0.05")));
+        assertEquals(SimulationValidationException.LOAN_AMOUNT_TOO_LARGE, ex.getMessage());
+    }
+
+    private PortfolioStressService service(int parallelism) {
+        return started(StandaloneServices.portfolioStressService(parallelism));
+    }
+
+    private PortfolioStressService started(PortfolioStressService service) {
+        service.start();
+        services.add(service);
+        return service;
+    }
+
+    private static PortfolioStressRequest request(List<LoadSimulatorRequest> loans, int paths, long seed,
+                                                  String rateShockStdDev, String annualPrepaymentRate) {
+        return PortfolioStressRequest.builder()
+                .loans(loans)
+                .paths(paths)
+                .seed(seed)
+                .rateShockStdDev(new BigDecimal(rateShockStdDev))
+                .annualPrepaymentRate(new BigDecimal(annualPrepaymentRate))
+                .build();
+    }
+
+    private static List<LoadSimulatorRequest> portfolio(int size) {
+        List<LoadSimulatorRequest> loans = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            loans.add(LoadSimulatorRequest.builder()
+                    .loanAmount(BigDecimal.valueOf(5_000 + 1_250L * i))
+                    .dateOfBirth(LocalDate.now().minusYears(20 + (i * 7) % 50))
+                    .paymentTermMonths(12 + (i * 11) % 60)
+                    .build());
+        }
+        return loans;
+    }
+}
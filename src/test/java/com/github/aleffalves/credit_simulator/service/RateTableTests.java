@@ -0,0 +1,145 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateTableTests {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void tierOf_ShouldMatchAgeBasedTier_ForEveryBirthDate_IncludingLeapDays() {
+        for (String today : new String[]{"2028-02-29", "2027-02-28", "2027-03-01", "2026-12-31", "2026-01-01"}) {
+            LocalDate date = LocalDate.parse(today);
+            RateTable rateTable = RateTable.of(RateTable.DEFAULT_TIERS, fixedClock(date));
+            RateTable.Snapshot rates = rateTable.current();
+
+            for (LocalDate dob = date.minusYears(100); !dob.isAfter(date); dob = dob.plusDays(1)) {
+                int age = Period.between(dob, date).getYears();
+                assertEquals(rates.tierOfAge(age), rates.tierOf(dob), "hoje=" + date + " nascimento=" + dob);
+            }
+        }
+    }
+
+    @Test
+    void tierOf_Should_ThrowExceptionForFutureDate() {
+        LocalDate today = LocalDate.parse("2026-10-18");
+        RateTable.Snapshot rates = RateTable.of(RateTable.DEFAULT_TIERS, fixedClock(today)).current();
+
+        assertThrows(IllegalArgumentException.class, () -> rates.tierOf(today.plusDays(1)));
+    }
+
+    @Test
+    void current_ShouldRecomputeCutoffs_AfterMidnight() {
+        MutableClock clock = new MutableClock(LocalDate.parse("2026-10-18").atTime(23, 59).atZone(ZONE).toInstant());
+        RateTable rateTable = RateTable.of(RateTable.DEFAULT_TIERS, clock);
+        LocalDate turns26Tomorrow = LocalDate.parse("2000-10-19");
+
+        RateTable.Snapshot before = rateTable.current();
+        assertSame(before, rateTable.current());
+        assertEquals(0, before.tierOf(turns26Tomorrow));
+
+        clock.instant = LocalDate.parse("2026-10-19").atStartOfDay(ZONE).toInstant();
+        RateTable.Snapshot after = rateTable.current();
+        assertNotSame(before, after);
+        assertEquals(1, after.tierOf(turns26Tomorrow));
+        assertEquals(before.version(), after.version());
+    }
+
+    @Test
+    void reload_ShouldSwapRates_AndRejectInvalidDefinitions() {
+        RateTable rateTable = RateTable.of(RateTable.DEFAULT_TIERS, Clock.system(ZONE));
+        RateTable.Snapshot original = rateTable.current();
+
+        rateTable.reload("30:0.06,*:0.01");
+        RateTable.Snapshot reloaded = rateTable.current();
+        assertEquals(original.version() + 1, reloaded.version());
+        assertEquals(2, reloaded.size());
+        assertEquals(new BigDecimal("0.06"), reloaded.annualRate(reloaded.tierOfAge(30)));
+        assertEquals(new BigDecimal("0.0050"), reloaded.monthlyRate(0));
+
+        assertThrows(IllegalArgumentException.class, () -> rateTable.reload("40:0.03,25:0.05,*:0.04"));
+        assertThrows(IllegalArgumentException.class, () -> rateTable.reload("25:0.05,40:0.03"));
+        assertThrows(IllegalArgumentException.class, () -> rateTable.reload("25:-0.05,*:0.04"));
+        assertSame(reloaded, rateTable.current());
+    }
+
+    @Test
+    void reload_ShouldPublishDistinctVersions_WhenCalledConcurrently() throws Exception {
+        Set<Long> versions = ConcurrentHashMap.newKeySet();
+        RateTable rateTable = new RateTable(RateTable.DEFAULT_TIERS, null,
+                event -> versions.add(((RateTableReloadedEvent) event).getVersion()), Clock.system(ZONE));
+        int reloads = 200;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < reloads; i++) {
+                String tiers = (30 + i % 10) + ":0.05,*:0.0" + (1 + i % 9);
+                executor.submit(() -> rateTable.reload(tiers));
+            }
+        }
+
+        assertEquals(reloads, versions.size());
+        assertEquals(1 + reloads, rateTable.current().version());
+    }
+
+    @Test
+    void reloadFromFileIfChanged_ShouldPickUpNewTiers(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("rates.properties");
+        Files.writeString(file, "tiers=25:0.05,40:0.03,60:0.02,*:0.04\n");
+        RateTable rateTable = new RateTable(null, file, null, Clock.system(ZONE));
+        assertEquals(new BigDecimal("0.03"), rateTable.current().annualRate(1));
+
+        Files.writeString(file, "tiers=25:0.05,40:0.035,60:0.02,*:0.04\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        rateTable.reloadFromFileIfChanged();
+
+        assertEquals(new BigDecimal("0.035"), rateTable.current().annualRate(1));
+        assertEquals(2, rateTable.current().version());
+    }
+
+    private static Clock fixedClock(LocalDate today) {
+        return Clock.fixed(today.atTime(12, 0).atZone(ZONE).toInstant(), ZONE);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class SimulationCacheTests {
+
+    private LoadSimulatorService loadSimulatorService;
+    private SimulationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SimulationCache(true, 100, new SimpleMeterRegistry());
+        loadSimulatorService = StandaloneServices.loadSimulatorService(cache);
+    }
+
+    @Test
+    void simulate_ShouldShareEntries_ForCustomersInTheSameAgeTier() {
+        LoadSimulatorResponse first = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(27), 24));
+        LoadSimulatorResponse second = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(39).minusDays(100), 24));
+
+        assertEquals(first, second);
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void simulate_ShouldUseAnotherEntry_WhenTierChanges() {
+        LoadSimulatorResponse youngest = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(25), 12));
+        LoadSimulatorResponse older = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(26), 12));
+
+        assertEquals(new BigDecimal("856.26"), youngest.getMonthlyInstallment());
+        assertEquals(new BigDecimal("846.94"), older.getMonthlyInstallment());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void simulate_ShouldNormalizeAmountScale_InTheKey() {
+        LoadSimulatorResponse plain = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(30), 12));
+        LoadSimulatorResponse withCents = loadSimulatorService.simulate(request("10000.00", LocalDate.now().minusYears(30), 12));
+
+        assertEquals(plain, withCents);
+        assertEquals(StandaloneServices.loadSimulatorService().simulate(request("10000.00", LocalDate.now().minusYears(30), 12)), withCents);
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void simulate_ShouldNotShareMutableResponse_BetweenCallers() {
+        LoadSimulatorResponse first = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(30), 12));
+        first.setMonthlyInstallment(BigDecimal.ZERO);
+        first.setTotalAmountPayable(null);
+
+        LoadSimulatorResponse second = loadSimulatorService.simulate(request("10000", LocalDate.now().minusYears(30), 12));
+
+        assertNotSame(first, second);
+        assertEquals(new BigDecimal("846.94"), second.getMonthlyInstallment());
+        assertEquals(new BigDecimal("10163.28"), second.getTotalAmountPayable());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    private static LoadSimulatorRequest request(String amount, LocalDate dateOfBirth, int term) {
+        return LoadSimulatorRequest.builder()
+                .loanAmount(new BigDecimal(amount))
+                .dateOfBirth(dateOfBirth)
+                .paymentTermMonths(term)
+                .build();
+    }
+}
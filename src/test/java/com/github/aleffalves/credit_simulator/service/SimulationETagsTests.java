@@ -0,0 +1,40 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class SimulationETagsTests {
+
+    private static final LoadSimulatorRequest REQUEST = LoadSimulatorRequest.builder()
+            .loanAmount(new BigDecimal("15000.00"))
+            .dateOfBirth(LocalDate.now().minusYears(35))
+            .paymentTermMonths(24)
+            .build();
+
+    @Test
+    void resolve_ShouldDifferBetweenTables_WithDifferentRatesAtTheSameVersion() {
+        RateTable defaults = RateTable.of(RateTable.DEFAULT_TIERS, Clock.systemDefaultZone());
+        RateTable higherRates = RateTable.of("25:0.05,40:0.06,60:0.02,*:0.04", Clock.systemDefaultZone());
+        assertEquals(defaults.current().version(), higherRates.current().version());
+
+        assertNotEquals(new SimulationETags(defaults).resolve(REQUEST, MediaType.APPLICATION_JSON).eTag(),
+                new SimulationETags(higherRates).resolve(REQUEST, MediaType.APPLICATION_JSON).eTag());
+    }
+
+    @Test
+    void resolve_ShouldMatchAcrossInstances_WithTheSameRates() {
+        RateTable reloaded = RateTable.of("25:0.05,40:0.06,60:0.02,*:0.04", Clock.systemDefaultZone());
+        reloaded.reload(RateTable.DEFAULT_TIERS);
+
+        assertEquals(new SimulationETags(RateTable.defaults()).resolve(REQUEST, MediaType.APPLICATION_JSON).eTag(),
+                new SimulationETags(reloaded).resolve(REQUEST, MediaType.APPLICATION_JSON).eTag());
+    }
+}
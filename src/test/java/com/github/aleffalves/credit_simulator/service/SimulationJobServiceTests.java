@@ -0,0 +1,288 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorBatchResult;
+import com.github.aleffalves.credit_simulator.domain.LoadSimulatorRequest;
+import com.github.aleffalves.credit_simulator.domain.SimulationJob;
+import com.github.aleffalves.credit_simulator.domain.SimulationJobChunk;
+import com.github.aleffalves.credit_simulator.domain.SimulationJobStatus;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobFailedException;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobNotFoundException;
+import com.github.aleffalves.credit_simulator.exception.SimulationJobQueueFullException;
+import com.github.aleffalves.credit_simulator.exception.SimulationValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+public class SimulationJobServiceTests {
+
+    private final LoadSimulatorBatchService batchService = Mockito.mock(LoadSimulatorBatchService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimulationJobService service;
+
+    @AfterEach
+    void stop() {
+        release.countDown();
+        service.stop();
+    }
+
+    @Test
+    void submit_ShouldPublishResultsInChunks_AndReportProgress() throws Exception {
+        service = service(2, 10, 2);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        SimulationJob submitted = service.submit(items(5), MediaType.APPLICATION_NDJSON);
+        assertEquals(5, submitted.getTotalItems());
+        assertEquals(3, submitted.getTotalChunks());
+
+        SimulationJob done = awaitStatus(submitted.getJobId(), SimulationJobStatus.COMPLETED);
+        assertEquals(5, done.getProcessedItems());
+        assertEquals(100.0, done.getProgress());
+        assertEquals(3, done.getAvailableChunks());
+        assertTrue(done.getExpiresAt().isAfter(done.getCompletedAt()));
+
+        long expectedIndex = 0;
+        for (int chunk = 0; chunk < 3; chunk++) {
+            SimulationJobChunk results = service.chunk(submitted.getJobId(), chunk);
+            for (LoadSimulatorBatchResult result : results.getResults()) {
+                assertEquals(expectedIndex++, result.getIndex());
+            }
+        }
+        assertEquals(5, expectedIndex);
+        assertThrows(SimulationValidationException.class, () -> service.chunk(submitted.getJobId(), 3));
+    }
+
+    @Test
+    void submit_ShouldRebuildRequests_FromCompactItems() throws Exception {
+        service = service(1, 10, 10);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        String jobId = service.submit(stream("""
+                {"loanAmount": 1000.55, "dateOfBirth": "1990-01-31", "paymentTermMonths": 12}
+                {"dateOfBirth": "1990-01-31", "paymentTermMonths": 12}
+                {"loanAmount": 1000, "dateOfBirth": "ontem", "paymentTermMonths": 12}
+                """), MediaType.APPLICATION_NDJSON).getJobId();
+        awaitStatus(jobId, SimulationJobStatus.COMPLETED);
+
+        ArgumentCaptor<LoadSimulatorRequest> requests = ArgumentCaptor.forClass(LoadSimulatorRequest.class);
+        Mockito.verify(batchService, Mockito.times(2)).evaluate(anyLong(), requests.capture());
+        LoadSimulatorRequest full = requests.getAllValues().get(0);
+        assertEquals(0, new BigDecimal("1000.55").compareTo(full.getLoanAmount()));
+        assertEquals(LocalDate.of(1990, 1, 31), full.getDateOfBirth());
+        assertEquals(12, full.getPaymentTermMonths());
+        LoadSimulatorRequest withoutAmount = requests.getAllValues().get(1);
+        assertNull(withoutAmount.getLoanAmount());
+        assertEquals(LocalDate.of(1990, 1, 31), withoutAmount.getDateOfBirth());
+
+        LoadSimulatorBatchResult unreadable = service.chunk(jobId, 0).getResults().get(2);
+        assertEquals(2, unreadable.getIndex());
+        assertTrue(unreadable.getError().contains("ontem"), unreadable.getError());
+    }
+
+    @Test
+    void submit_ShouldKeepAmountsBeyondLong_ForTheSameResultAsTheSynchronousBatch() throws Exception {
+        service = service(1, 10, 10);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        String jobId = service.submit(stream("""
+                {"loanAmount": 123456789012345678901234567890, "dateOfBirth": "1990-01-31", "paymentTermMonths": 12}
+                {"loanAmount": 1000.55, "dateOfBirth": "1990-01-31", "paymentTermMonths": 12}
+                """), MediaType.APPLICATION_NDJSON).getJobId();
+        awaitStatus(jobId, SimulationJobStatus.COMPLETED);
+
+        ArgumentCaptor<LoadSimulatorRequest> requests = ArgumentCaptor.forClass(LoadSimulatorRequest.class);
+        Mockito.verify(batchService, Mockito.times(2)).evaluate(anyLong(), requests.capture());
+        assertEquals(new BigDecimal("123456789012345678901234567890"), requests.getAllValues().get(0).getLoanAmount());
+        assertEquals(new BigDecimal("1000.55"), requests.getAllValues().get(1).getLoanAmount());
+    }
+
+    @Test
+    void chunk_ShouldFail_WhenJobFailedBeforeProducingIt() throws Exception {
+        service = service(1, 10, 2);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class))).thenAnswer(call -> {
+            if ((long) call.getArgument(0) == 2) throw new IllegalStateException("falha simulada");
+            return LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build();
+        });
+
+        String jobId = service.submit(items(5), MediaType.APPLICATION_NDJSON).getJobId();
+        SimulationJob failed = awaitStatus(jobId, SimulationJobStatus.FAILED);
+        assertEquals(1, failed.getAvailableChunks());
+
+        assertEquals(2, service.chunk(jobId, 0).getResults().size());
+        SimulationJobFailedException ex = assertThrows(SimulationJobFailedException.class, () -> service.chunk(jobId, 1));
+        assertEquals("O job " + jobId + " falhou antes de processar o bloco 1: An unexpected error occurred", ex.getMessage());
+    }
+
+    @Test
+    void submit_ShouldRejectWithQueueFull_InsteadOfGrowingBacklog() throws Exception {
+        service = service(1, 1, 10);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class))).thenAnswer(call -> {
+            release.await(10, TimeUnit.SECONDS);
+            return LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build();
+        });
+
+        SimulationJob running = service.submit(items(1), MediaType.APPLICATION_NDJSON);
+        awaitStatus(running.getJobId(), SimulationJobStatus.RUNNING);
+        SimulationJob queued = service.submit(items(1), MediaType.APPLICATION_NDJSON);
+        assertEquals(SimulationJobStatus.QUEUED, service.status(queued.getJobId()).getStatus());
+        assertNull(service.chunk(queued.getJobId(), 0));
+
+        SimulationJobQueueFullException rejected = assertThrows(SimulationJobQueueFullException.class,
+                () -> service.submit(items(1), MediaType.APPLICATION_NDJSON));
+        assertEquals(5, rejected.getRetryAfterSeconds());
+
+        release.countDown();
+        awaitStatus(queued.getJobId(), SimulationJobStatus.COMPLETED);
+        // Com a fila livre de novo, o envio volta a ser aceito.
+        awaitStatus(service.submit(items(1), MediaType.APPLICATION_NDJSON).getJobId(), SimulationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void submit_ShouldRejectWithQueueFull_WhenQueuedItemsExceedLimit() throws Exception {
+        service = service(1, 10, 10);
+        ReflectionTestUtils.setField(service, "maxItems", 5);
+        ReflectionTestUtils.setField(service, "maxQueuedItems", 5L);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class))).thenAnswer(call -> {
+            release.await(10, TimeUnit.SECONDS);
+            return LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build();
+        });
+
+        SimulationJob running = service.submit(items(3), MediaType.APPLICATION_NDJSON);
+        awaitStatus(running.getJobId(), SimulationJobStatus.RUNNING);
+        SimulationJob queued = service.submit(items(2), MediaType.APPLICATION_NDJSON);
+
+        // Só dois jobs na fila de dez, mas os cinco itens já esgotaram a reserva.
+        SimulationJobQueueFullException rejected = assertThrows(SimulationJobQueueFullException.class,
+                () -> service.submit(items(1), MediaType.APPLICATION_NDJSON));
+        assertTrue(rejected.getMessage().contains("5 itens"));
+
+        release.countDown();
+        awaitStatus(queued.getJobId(), SimulationJobStatus.COMPLETED);
+        // Todos os itens processados devolvem a reserva: um job do tamanho do limite volta a ser aceito.
+        awaitStatus(service.submit(items(5), MediaType.APPLICATION_NDJSON).getJobId(), SimulationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void submit_ShouldRejectWithQueueFull_UntilRetainedResultsExpire() throws Exception {
+        service = service(1, 10, 10);
+        ReflectionTestUtils.setField(service, "maxItems", 3);
+        ReflectionTestUtils.setField(service, "maxQueuedItems", 3L);
+        ReflectionTestUtils.setField(service, "maxRetainedItems", 5L);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        String first = service.submit(items(3), MediaType.APPLICATION_NDJSON).getJobId();
+        awaitStatus(first, SimulationJobStatus.COMPLETED);
+        awaitStatus(service.submit(items(2), MediaType.APPLICATION_NDJSON).getJobId(), SimulationJobStatus.COMPLETED);
+
+        // A fila está vazia, mas os resultados concluídos ainda ocupam os cinco itens retidos.
+        SimulationJobQueueFullException rejected = assertThrows(SimulationJobQueueFullException.class,
+                () -> service.submit(items(1), MediaType.APPLICATION_NDJSON));
+        assertTrue(rejected.getMessage().contains("5 itens"));
+        assertEquals(3, service.chunk(first, 0).getResults().size());
+
+        ReflectionTestUtils.setField(service, "clock", Clock.offset(Clock.systemDefaultZone(), Duration.ofMinutes(16)));
+        service.purgeExpired();
+        ReflectionTestUtils.setField(service, "clock", Clock.systemDefaultZone());
+        awaitStatus(service.submit(items(3), MediaType.APPLICATION_NDJSON).getJobId(), SimulationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void submit_ShouldReleaseReservedItems_WhenBodyIsRejected() throws Exception {
+        service = service(1, 10, 10);
+        ReflectionTestUtils.setField(service, "maxItems", 3);
+        ReflectionTestUtils.setField(service, "maxQueuedItems", 3L);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        assertThrows(SimulationValidationException.class, () -> service.submit(items(4), MediaType.APPLICATION_NDJSON));
+        assertThrows(SimulationValidationException.class,
+                () -> service.submit(stream("[{\"loanAmount\": 1}, {\"loanAmount\": "), MediaType.APPLICATION_JSON));
+
+        awaitStatus(service.submit(items(3), MediaType.APPLICATION_NDJSON).getJobId(), SimulationJobStatus.COMPLETED);
+    }
+
+    @Test
+    void results_ShouldExpireAfterTtl() throws Exception {
+        service = service(1, 10, 10);
+        Mockito.when(batchService.evaluate(anyLong(), any(LoadSimulatorRequest.class)))
+                .thenAnswer(call -> LoadSimulatorBatchResult.builder().index(call.getArgument(0)).build());
+
+        String jobId = service.submit(items(3), MediaType.APPLICATION_NDJSON).getJobId();
+        awaitStatus(jobId, SimulationJobStatus.COMPLETED);
+
+        ReflectionTestUtils.setField(service, "clock", Clock.offset(Clock.systemDefaultZone(), Duration.ofMinutes(16)));
+        assertThrows(SimulationJobNotFoundException.class, () -> service.status(jobId));
+        service.purgeExpired();
+        ReflectionTestUtils.setField(service, "clock", Clock.systemDefaultZone());
+        assertThrows(SimulationJobNotFoundException.class, () -> service.status(jobId));
+    }
+
+    @Test
+    void submit_ShouldRejectEmptyOrMalformedBody() {
+        service = service(1, 10, 10);
+
+        assertThrows(SimulationValidationException.class, () -> service.submit(stream("[]"), MediaType.APPLICATION_JSON));
+        assertThrows(SimulationValidationException.class, () -> service.submit(stream("[{\"loanAmount\": "), MediaType.APPLICATION_JSON));
+    }
+
+    private SimulationJobService service(int workers, int queueCapacity, int chunkSize) {
+        WireFormats wireFormats = new WireFormats();
+        ReflectionTestUtils.setField(wireFormats, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+
+        SimulationJobService jobs = new SimulationJobService();
+        ReflectionTestUtils.setField(jobs, "loadSimulatorBatchService", batchService);
+        ReflectionTestUtils.setField(jobs, "wireFormats", wireFormats);
+        ReflectionTestUtils.setField(jobs, "workers", workers);
+        ReflectionTestUtils.setField(jobs, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(jobs, "chunkSize", chunkSize);
+        jobs.start();
+        return jobs;
+    }
+
+    private SimulationJob awaitStatus(String jobId, SimulationJobStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        SimulationJob job = service.status(jobId);
+        while (job.getStatus() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            job = service.status(jobId);
+        }
+        assertEquals(expected, job.getStatus());
+        return job;
+    }
+
+    private static InputStream items(int count) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append("{\"loanAmount\": 1000, \"dateOfBirth\": \"1990-01-01\", \"paymentTermMonths\": 12}\n");
+        }
+        return stream(ndjson.toString());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.aleffalves.credit_simulator.service;
+
+import com.github.aleffalves.credit_simulator.journal.SimulationJournal;
+import com.github.aleffalves.credit_simulator.metrics.SimulationMetrics;
+import jakarta.validation.Validation;
+
+/**
+ * Serviços montados sem o contexto do Spring, com os valores padrão da configuração e sem métricas, cache nem
+ * journal. Quem precisa de outro colaborador ou limite usa o construtor do serviço diretamente.
+ */
+public final class StandaloneServices {
+
+    public static final int MAX_GRID_CELLS = 100_000;
+
+    private StandaloneServices() {
+    }
+
+    public static LoadSimulatorService loadSimulatorService() {
+        return loadSimulatorService(SimulationEngineType.BIG_DECIMAL);
+    }
+
+    public static LoadSimulatorService loadSimulatorService(SimulationEngineType engine) {
+        return new LoadSimulatorService(RateTable.defaults(), engine, SimulationMetrics.noop(), SimulationCache.disabled(),
+                SimulationJournal.disabled(), MAX_GRID_CELLS);
+    }
+
+    public static LoadSimulatorService loadSimulatorService(SimulationCache cache) {
+        return new LoadSimulatorService(RateTable.defaults(), SimulationEngineType.BIG_DECIMAL, SimulationMetrics.noop(),
+                cache, SimulationJournal.disabled(), MAX_GRID_CELLS);
+    }
+
+    public static LoadSimulatorService loadSimulatorService(SimulationJournal journal) {
+        return new LoadSimulatorService(RateTable.defaults(), SimulationEngineType.BIG_DECIMAL, SimulationMetrics.noop(),
+                SimulationCache.disabled(), journal, MAX_GRID_CELLS);
+    }
+
+    public static LoanSolverService loanSolverService() {
+        return new LoanSolverService(RateTable.defaults(), Validation.buildDefaultValidatorFactory().getValidator(), 100_000);
+    }
+
+    /**
+     * Serviço com os limites padrão; o pool só existe depois de {@link PortfolioStressService#start()}.
+     */
+    public static PortfolioStressService portfolioStressService(int parallelism) {
+        return portfolioStressService(parallelism, 200_000_000L);
+    }
+
+    public static PortfolioStressService portfolioStressService(int parallelism, long maxLoanPaths) {
+        return new PortfolioStressService(RateTable.defaults(), parallelism, 1_000_000, maxLoanPaths);
+    }
+}